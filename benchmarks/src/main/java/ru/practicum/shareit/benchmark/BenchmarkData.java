@@ -0,0 +1,96 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.comment.entity.Comment;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.user.entity.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+// Детерминированный набор данных для бенчмарков: у каждой вещи свой запрос, одно бронирование и один комментарий.
+// Сущности создаются без идентификаторов, чтобы тот же набор можно было сохранить в БД
+final class BenchmarkData {
+    static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+    static final String SEARCH_TEXT = "дрель";
+
+    static final String[] NAMES = {"Дрель", "Пила", "Шуруповерт", "Стремянка", "Перфоратор"};
+
+    final User owner;
+    final User booker;
+    final User requester;
+    final List<ItemRequest> requests;
+    final List<Item> items;
+    final List<Booking> bookings;
+    final List<Comment> comments;
+
+    private BenchmarkData(int size) {
+        owner = new User(null, "Owner", "owner@example.com");
+        booker = new User(null, "Booker", "booker@example.com");
+        requester = new User(null, "Requester", "requester@example.com");
+        requests = new ArrayList<>(size);
+        items = new ArrayList<>(size);
+        bookings = new ArrayList<>(size);
+        comments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = NAMES[i % NAMES.length];
+            ItemRequest request = ItemRequest.builder()
+                    .description("Нужна " + name.toLowerCase() + " на выходные #" + i)
+                    .created(NOW.minusHours(i))
+                    .requester(requester)
+                    .items(new ArrayList<>())
+                    .build();
+            Item item = Item.builder()
+                    .name(name + " #" + i)
+                    .description(name + " в хорошем состоянии, выдается с кейсом")
+                    .available(i % 10 != 0)
+                    .owner(owner)
+                    .bookings(new ArrayList<>())
+                    .comments(new ArrayList<>())
+                    .build();
+            request.addItem(item);
+
+            // Половина бронирований в прошлом, половина в будущем: у вещей есть и последнее, и следующее
+            LocalDateTime start = i % 2 == 0 ? NOW.minusDays(i + 2) : NOW.plusDays(i + 1);
+            Booking booking = Booking.builder()
+                    .booker(booker)
+                    .item(item)
+                    .start(start)
+                    .end(start.plusDays(1))
+                    .status(BookingStatus.APPROVED)
+                    .build();
+            item.getBookings().add(booking);
+
+            Comment comment = new Comment(null, item, booker, "Отличная вещь #" + i, NOW.minusDays(1));
+            item.getComments().add(comment);
+
+            requests.add(request);
+            items.add(item);
+            bookings.add(booking);
+            comments.add(comment);
+        }
+    }
+
+    static BenchmarkData of(int size) {
+        return new BenchmarkData(size);
+    }
+
+    // Идентификаторы для маппинга без БД: в сохраненном наборе их назначает база
+    BenchmarkData withIds() {
+        owner.setId(1L);
+        booker.setId(2L);
+        requester.setId(3L);
+        for (int i = 0; i < items.size(); i++) {
+            long id = i + 1;
+            requests.get(i).setId(id);
+            items.get(i).setId(id);
+            bookings.get(i).setId(id);
+            comments.get(i).setId(id);
+        }
+        return this;
+    }
+}
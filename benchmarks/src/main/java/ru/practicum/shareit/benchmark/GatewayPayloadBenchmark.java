@@ -0,0 +1,61 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Обработка тела ответа сервера в шлюзе: прежний путь разбирал JSON в Object и сериализовал его заново,
+// текущий (BaseClient) пересылает байты как есть. Сетевой обмен исключен, сравнивается только работа с телом
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GatewayPayloadBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int datasetSize;
+
+    private ObjectMapper objectMapper;
+    private byte[] serverResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        BookingMapper bookingMapper = Mappers.getMapper(BookingMapper.class);
+        serverResponse = objectMapper.writeValueAsBytes(
+                bookingMapper.toResponseList(BenchmarkData.of(datasetSize).withIds().bookings));
+    }
+
+    @Benchmark
+    public byte[] parseAndReserialize() throws IOException {
+        Object body = objectMapper.readValue(serverResponse, Object.class);
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    // Копия соответствует чтению тела из ответа сервера в новый массив
+    @Benchmark
+    public byte[] passThroughBytes() {
+        return Arrays.copyOf(serverResponse, serverResponse.length);
+    }
+}
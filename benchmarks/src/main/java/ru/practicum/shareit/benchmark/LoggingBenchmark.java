@@ -0,0 +1,110 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.controller.BookingController;
+import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.LogPayload;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Пропускная способность запроса списка бронирований владельца (контроллер, сервис, БД) при разных уровнях
+// логов приложения. Контекст поднимается с профилем prod: JSON через асинхронный аппендер, как в продакшене.
+// Консоль подменяется пустым потоком, поэтому в замер входят форматирование и кодирование событий, но не вывод
+// в терминал. renderFull и renderCapped сравнивают строку списка целиком и через LogPayload
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+    private static final int DATASET_SIZE = 1000;
+
+    @Param({"OFF", "INFO", "DEBUG"})
+    private String applicationLogLevel;
+
+    private PrintStream originalOut;
+    private ConfigurableApplicationContext context;
+    private BookingController bookingController;
+    private Collection<BookingResponseDto> bookings;
+    private long ownerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test", "prod")
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.ru.practicum.shareit=" + applicationLogLevel,
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--shareit.outbox.require-durable-sink=false");
+        bookingController = context.getBean(BookingController.class);
+
+        BenchmarkData data = BenchmarkData.of(DATASET_SIZE);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            context.getBean(UserRepository.class).saveAll(List.of(data.owner, data.booker, data.requester));
+            context.getBean(ItemRequestRepository.class).saveAll(data.requests);
+            context.getBean(ItemRepository.class).saveAll(data.items);
+            context.getBean(BookingRepository.class).saveAll(data.bookings);
+            context.getBean(CommentRepository.class).saveAll(data.comments);
+        });
+        ownerId = data.owner.getId();
+        bookings = context.getBean(BookingService.class).getAllByOwnerIdAndFindStatus(ownerId,
+                BookingFindStatus.ALL, BookingPageRequest.of(null, BookingPageRequest.DEFAULT_SIZE));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public Collection<BookingResponseDto> ownerBookingsRequest() {
+        return bookingController.getAllBookingsOfItemOwner(ownerId, BookingFindStatus.ALL.name(), null,
+                BookingPageRequest.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    public String renderFull() {
+        return String.valueOf(bookings);
+    }
+
+    @Benchmark
+    public String renderCapped() {
+        return LogPayload.of(bookings).toString();
+    }
+}
@@ -0,0 +1,93 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.mapper.BookingMapperImpl;
+import ru.practicum.shareit.comment.mapper.CommentMapperImpl;
+import ru.practicum.shareit.item.dto.ItemDetailedResponseDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.mapper.ItemMapperImpl;
+import ru.practicum.shareit.request.dto.ItemRequestWithResponsesDto;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.mapper.ItemRequestMapperImpl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Маппинг списков, которые сервер отдает целиком: бронирования, вещи владельца с бронированиями и комментариями,
+// запросы с ответами. Мапперы собираются Spring-контекстом, как в приложении, со всеми вложенными мапперами
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int datasetSize;
+
+    private AnnotationConfigApplicationContext context;
+    private BookingMapper bookingMapper;
+    private ItemMapper itemMapper;
+    private ItemRequestMapper itemRequestMapper;
+
+    private BenchmarkData data;
+    private Map<Long, Booking> lastBookings;
+    private Map<Long, Booking> nextBookings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(BookingMapperImpl.class, CommentMapperImpl.class,
+                ItemRequestMapperImpl.class, ItemMapperImpl.class);
+        bookingMapper = context.getBean(BookingMapper.class);
+        itemMapper = context.getBean(ItemMapper.class);
+        itemRequestMapper = context.getBean(ItemRequestMapper.class);
+
+        data = BenchmarkData.of(datasetSize).withIds();
+        // Те же индексы по id вещи, что строит ItemServiceImpl перед маппингом
+        lastBookings = new HashMap<>();
+        nextBookings = new HashMap<>();
+        for (Booking booking : data.bookings) {
+            Map<Long, Booking> target = booking.getEnd().isBefore(BenchmarkData.NOW) ? lastBookings : nextBookings;
+            target.putIfAbsent(booking.getItem().getId(), booking);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Collection<BookingResponseDto> bookingToResponseList() {
+        return bookingMapper.toResponseList(data.bookings);
+    }
+
+    @Benchmark
+    public List<ItemDetailedResponseDto> itemToDetailedResponseList() {
+        return itemMapper.toDetailedResponseList(data.items, lastBookings, nextBookings);
+    }
+
+    @Benchmark
+    public Collection<ItemRequestWithResponsesDto> itemRequestToDetailedResponseList() {
+        return itemRequestMapper.toDetailedResponseList(data.requests);
+    }
+}
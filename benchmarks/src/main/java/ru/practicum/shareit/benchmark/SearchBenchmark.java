@@ -0,0 +1,131 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.item.dto.ItemResponseDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Поиск вещей на itemCount вещах обоими движками: встроенный индекс на H2 (in-memory) и tsvector/pg_trgm
+// на PostgreSQL в Docker (postgresql, Testcontainers). Таблица заполняется одним INSERT ... SELECT в отдельном
+// контексте, замер идет во втором: встроенный индекс строится при его старте из уже заполненной таблицы.
+// Встроенному индексу на миллионе вещей нужна куча около 4 ГБ: -Djmh.args="-jvmArgsAppend -Xmx4g"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+    private static final int PAGE_SIZE = 20;
+    private static final String POSTGRESQL = "postgresql";
+
+    @Param({"in-memory", POSTGRESQL})
+    private String engine;
+
+    @Param({"10000", "100000", "1000000"})
+    private int itemCount;
+
+    // Слово из названия и описания каждой пятой вещи и два слова не подряд - ветка plainto_tsquery
+    @Param({BenchmarkData.SEARCH_TEXT, "кейсом дрель"})
+    private String text;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of("--spring.main.banner-mode=off",
+                "--logging.level.root=warn",
+                "--logging.level.ru.practicum.shareit=warn",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--shareit.search.engine=" + engine));
+        if (POSTGRESQL.equals(engine)) {
+            postgres = new PostgreSQLContainer<>("postgres:16.1");
+            postgres.start();
+            args.add("--spring.datasource.driverClassName=" + postgres.getDriverClassName());
+            args.add("--spring.datasource.url=" + postgres.getJdbcUrl());
+            args.add("--spring.datasource.username=" + postgres.getUsername());
+            args.add("--spring.datasource.password=" + postgres.getPassword());
+        } else {
+            // База переживает закрытие первого контекста
+            args.add("--spring.datasource.url=jdbc:h2:mem:search-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        }
+        String[] arguments = args.toArray(String[]::new);
+
+        try (ConfigurableApplicationContext loader = start(arguments)) {
+            populate(loader.getBean(JdbcTemplate.class));
+        }
+        context = start(arguments);
+        itemService = context.getBean(ItemService.class);
+        userId = context.getBean(JdbcTemplate.class).queryForObject("SELECT MIN(id) FROM users", Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public Collection<ItemResponseDto> firstPage() {
+        return itemService.searchUserItemsBySearchText(userId, text, 0, PAGE_SIZE);
+    }
+
+    private static ConfigurableApplicationContext start(String[] arguments) {
+        return new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(arguments);
+    }
+
+    // Вещи как в BenchmarkData: название по кругу из NAMES, каждая десятая недоступна
+    private void populate(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO users (name, email) VALUES ('Owner', 'owner@example.com')");
+        long ownerId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+
+        StringBuilder name = new StringBuilder("CASE MOD(x, ").append(BenchmarkData.NAMES.length).append(')');
+        for (int i = 0; i < BenchmarkData.NAMES.length; i++) {
+            name.append(" WHEN ").append(i).append(" THEN '").append(BenchmarkData.NAMES[i]).append('\'');
+        }
+        name.append(" END");
+        String rows = POSTGRESQL.equals(engine)
+                ? "generate_series(0, " + (itemCount - 1) + ") AS r(x)"
+                : "SYSTEM_RANGE(0, " + (itemCount - 1) + ")";
+        jdbcTemplate.update("""
+                INSERT INTO items (name, description, is_available, owner_id)
+                SELECT %1$s || ' #' || x, %1$s || ' в хорошем состоянии, выдается с кейсом', MOD(x, 10) <> 0, ?
+                FROM %2$s
+                """.formatted(name, rows), ownerId);
+        if (POSTGRESQL.equals(engine)) {
+            jdbcTemplate.execute("ANALYZE items");
+        }
+    }
+}
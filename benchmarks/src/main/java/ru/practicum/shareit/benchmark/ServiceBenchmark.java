@@ -0,0 +1,173 @@
+package ru.practicum.shareit.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.item.dto.ItemDetailedResponseDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
+import ru.practicum.shareit.request.dto.ItemRequestWithResponsesDto;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Сервисные вызовы целиком (транзакция, запросы к H2, маппинг) на наборе данных размера datasetSize.
+// Контекст поднимается без веб-сервера с профилем test: H2 в памяти. Поиск вещей меряет SearchBenchmark.
+// Список бронирований владельца читается целиком страницами по MAX_SIZE (при 10000 - 10 страниц по 1000),
+// выделение памяти на вызов показывает профилировщик gc из jmh.profilers (gc.alloc.rate.norm)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+    // Прежний путь списка бронирований владельца: сущности с join fetch и маппинг сущностей в DTO,
+    // страницы по тому же курсору (start, id), что и у проекции
+    private static final String OWNER_BOOKINGS_AS_ENTITIES = """
+            SELECT b
+            FROM Booking b
+            JOIN FETCH b.booker
+            JOIN FETCH b.item i
+            WHERE i.owner.id = :ownerId
+            %s
+            ORDER BY b.start DESC, b.id DESC
+            """;
+    private static final String OWNER_BOOKINGS_AS_ENTITIES_FIRST_PAGE = OWNER_BOOKINGS_AS_ENTITIES.formatted("");
+    private static final String OWNER_BOOKINGS_AS_ENTITIES_NEXT_PAGE = OWNER_BOOKINGS_AS_ENTITIES.formatted(
+            "AND (b.start < :afterStart OR (b.start = :afterStart AND b.id < :afterId))");
+
+    @Param({"1000", "10000"})
+    private int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private ItemService itemService;
+    private ItemRequestService itemRequestService;
+    private BookingMapper bookingMapper;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+
+    private long ownerId;
+    private long requesterId;
+    private int pageSize;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Аргументы командной строки перекрывают application.properties: вывод SQL и статистики
+                // Hibernate в лог исказил бы измерения
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=warn",
+                        "--logging.level.ru.practicum.shareit=warn",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false");
+        bookingService = context.getBean(BookingService.class);
+        itemService = context.getBean(ItemService.class);
+        itemRequestService = context.getBean(ItemRequestService.class);
+        bookingMapper = context.getBean(BookingMapper.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        BenchmarkData data = BenchmarkData.of(datasetSize);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            context.getBean(UserRepository.class).saveAll(List.of(data.owner, data.booker, data.requester));
+            context.getBean(ItemRequestRepository.class).saveAll(data.requests);
+            context.getBean(ItemRepository.class).saveAll(data.items);
+            context.getBean(BookingRepository.class).saveAll(data.bookings);
+            context.getBean(CommentRepository.class).saveAll(data.comments);
+        });
+        ownerId = data.owner.getId();
+        requesterId = data.requester.getId();
+        pageSize = Math.min(datasetSize, BookingPageRequest.MAX_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> ownerBookings() {
+        List<BookingResponseDto> bookings = new ArrayList<>(datasetSize);
+        String after = null;
+        Collection<BookingResponseDto> page;
+        do {
+            page = bookingService.getAllByOwnerIdAndFindStatus(ownerId, BookingFindStatus.ALL,
+                    BookingPageRequest.of(after, pageSize));
+            bookings.addAll(page);
+            after = bookings.isEmpty() ? null : bookings.getLast().getStart() + "," + bookings.getLast().getId();
+        } while (page.size() == pageSize && bookings.size() < datasetSize);
+        return bookings;
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> ownerBookingsAsEntities() {
+        List<BookingResponseDto> bookings = new ArrayList<>(datasetSize);
+        Collection<BookingResponseDto> page;
+        do {
+            BookingResponseDto last = bookings.isEmpty() ? null : bookings.getLast();
+            page = readOnlyTransaction.execute(status -> {
+                TypedQuery<Booking> query = last == null
+                        ? entityManager.createQuery(OWNER_BOOKINGS_AS_ENTITIES_FIRST_PAGE, Booking.class)
+                        : entityManager.createQuery(OWNER_BOOKINGS_AS_ENTITIES_NEXT_PAGE, Booking.class)
+                                .setParameter("afterStart", last.getStart())
+                                .setParameter("afterId", last.getId());
+                return bookingMapper.toResponseList(query
+                        .setParameter("ownerId", ownerId)
+                        .setMaxResults(pageSize)
+                        .getResultList());
+            });
+            bookings.addAll(page);
+        } while (page.size() == pageSize && bookings.size() < datasetSize);
+        return bookings;
+    }
+
+    @Benchmark
+    public Collection<ItemDetailedResponseDto> ownerItemsWithComments() {
+        return itemService.getOwnerItemsWithComments(ownerId);
+    }
+
+    @Benchmark
+    public Collection<ItemRequestWithResponsesDto> requesterRequests() {
+        return itemRequestService.getUserRequests(requesterId, ItemRequestPageRequest.of(null, null, pageSize));
+    }
+}
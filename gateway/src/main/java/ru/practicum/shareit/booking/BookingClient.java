@@ -1,43 +1,74 @@
 package ru.practicum.shareit.booking;
 
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.booking.dto.BookingBulkApprovalRequestDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingStatusParameter;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ShareitServerClientProperties;
+import ru.practicum.shareit.util.Constants;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    private final String bookingsUrl;
+    private final HttpClient shareitServerEventsHttpClient;
+    private final Duration eventsStreamTimeout;
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         @Qualifier("shareitServerHttpClient") HttpClient shareitServerHttpClient,
+                         @Qualifier("shareitServerEventsHttpClient") HttpClient shareitServerEventsHttpClient,
+                         ShareitServerClientProperties properties) {
         super(builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(shareitServerHttpClient))
                 .build()
         );
+        this.bookingsUrl = serverUrl + API_PREFIX;
+        this.shareitServerEventsHttpClient = shareitServerEventsHttpClient;
+        this.eventsStreamTimeout = properties.getEvents().getStreamTimeout();
     }
 
-    public ResponseEntity<Object> getBookingsByRenterId(long renterId, BookingStatusParameter bookingStatusParameter) {
-        Map<String, Object> parameters = Map.of(
-                "state", bookingStatusParameter.name()
-        );
-        return get("?state={state}", renterId, parameters);
+    public ResponseEntity<Object> getBookingsByRenterId(long renterId, BookingStatusParameter bookingStatusParameter,
+                                                        @Nullable String after, @Nullable Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", bookingStatusParameter.name());
+        return get("?state={state}" + pageQuery(parameters, after, size), renterId, parameters);
     }
 
-    public ResponseEntity<Object> getBookingsByOwnerId(long ownerId, BookingStatusParameter bookingStatusParameter) {
-        Map<String, Object> parameters = Map.of(
-                "state", bookingStatusParameter.name()
-        );
-        return get("/owner?state={state}", ownerId, parameters);
+    public ResponseEntity<Object> getBookingsByOwnerId(long ownerId, BookingStatusParameter bookingStatusParameter,
+                                                       @Nullable String after, @Nullable Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", bookingStatusParameter.name());
+        return get("/owner?state={state}" + pageQuery(parameters, after, size), ownerId, parameters);
     }
 
     public ResponseEntity<Object> bookItem(long userId, BookingRequestDto requestDto) {
@@ -54,4 +85,99 @@ public class BookingClient extends BaseClient {
         );
         return patch("/" + bookingId + "?approved={approved}", ownerId, parameters, null);
     }
+
+    public ResponseEntity<Object> approveBookings(long ownerId, BookingBulkApprovalRequestDto requestDto) {
+        return patch("/approvals", ownerId, requestDto);
+    }
+
+    // Поток событий пересылается клиенту по мере поступления: каждый прочитанный кусок сразу отправляется и сбрасывается.
+    // Запрос идет мимо RestTemplate и общего пула: его ответ при закрытии дочитывается до конца, а поток событий
+    // бесконечен и держит соединение все время жизни. Таймаут задается самому потоку, а не всем асинхронным запросам
+    public ResponseEntity<ResponseBodyEmitter> streamBookingEvents(long userId) {
+        HttpGet request = new HttpGet(bookingsUrl + "/events");
+        request.setHeader(Constants.USER_ID_HEADER, String.valueOf(userId));
+        // JSON нужен для ответа с ошибкой: сервер отдает ее до открытия потока
+        request.setHeader(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE);
+
+        ClassicHttpResponse response;
+        try {
+            response = shareitServerEventsHttpClient.executeOpen(null, request, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        HttpEntity entity = response.getEntity();
+        if (response.getCode() != 200 || entity == null) {
+            // Ошибку сервера (например, неизвестный пользователь) шлюз отдает как есть, с исходным статусом
+            try (response) {
+                byte[] body = entity == null ? new byte[0] : EntityUtils.toByteArray(entity);
+                MediaType contentType = entity == null || entity.getContentType() == null
+                        ? null : MediaType.parseMediaType(entity.getContentType());
+                ResponseBodyEmitter error = new ResponseBodyEmitter();
+                if (body.length > 0) {
+                    error.send(body, contentType);
+                }
+                error.complete();
+                ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.getCode());
+                if (contentType != null) {
+                    builder.contentType(contentType);
+                }
+                return builder.body(error);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(eventsStreamTimeout.toMillis());
+        // По таймауту потока соединение с сервером обрывается, и поток пересылки завершается
+        emitter.onTimeout(request::cancel);
+        emitter.onError(e -> request.cancel());
+        Thread.ofVirtual()
+                .name("booking-events-relay-" + userId)
+                .start(() -> relay(request, response, emitter));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .cacheControl(CacheControl.noCache())
+                // Для nginx перед шлюзом: не накапливать поток в буфере прокси
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    private static void relay(HttpGet request, ClassicHttpResponse response, ResponseBodyEmitter emitter) {
+        try {
+            InputStream in = response.getEntity().getContent();
+            byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                // Копия: до инициализации ответа эмиттер копит отправленные данные у себя
+                emitter.send(Arrays.copyOf(buffer, read), MediaType.TEXT_EVENT_STREAM);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Клиент отключился, истек таймаут потока или сервер оборвал соединение: поток просто завершается
+        } finally {
+            // Соединение с сервером сначала обрывается, иначе закрытие ответа попытается дочитать бесконечный поток
+            request.cancel();
+            try {
+                response.close();
+            } catch (IOException ignored) {
+                // Соединение уже оборвано и в пул не вернется
+            }
+            emitter.complete();
+        }
+    }
+
+    // Пробрасывает курсор keyset-пагинации на сервер только если клиент его передал
+    private static String pageQuery(Map<String, Object> parameters, @Nullable String after, @Nullable Integer size) {
+        StringBuilder query = new StringBuilder();
+        if (after != null) {
+            parameters.put("after", after);
+            query.append("&after={after}");
+        }
+        if (size != null) {
+            parameters.put("size", size);
+            query.append("&size={size}");
+        }
+        return query.toString();
+    }
 }
\ No newline at end of file
@@ -8,10 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import ru.practicum.shareit.booking.dto.BookingBulkApprovalRequestDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingStatusParameter;
 import ru.practicum.shareit.error.InvalidBookingDateException;
 import ru.practicum.shareit.error.InvalidBookingStatusException;
+import ru.practicum.shareit.error.InvalidPageParameterException;
 import ru.practicum.shareit.util.Constants;
 
 import java.time.LocalDateTime;
@@ -28,23 +31,38 @@ public class BookingController {
 
     @GetMapping
     public ResponseEntity<Object> getBookingsByRenter(@RequestHeader(Constants.USER_ID_HEADER) long renterId,
-                                                      @RequestParam(name = "state", defaultValue = "all") String statusRequest) {
+                                                      @RequestParam(name = "state", defaultValue = "all") String statusRequest,
+                                                      @RequestParam(required = false) String after,
+                                                      @RequestParam(required = false) Integer size) {
         BookingStatusParameter bookingStatusParameter = BookingStatusParameter.get(statusRequest)
                 .orElseThrow(() -> new InvalidBookingStatusException("Unknown bookingStatus: " + statusRequest));
-        log.info("[GATEWAY] Get bookings with bookingStatus='{}' and renter with id='{}'", bookingStatusParameter, renterId);
-        return bookingClient.getBookingsByRenterId(renterId, bookingStatusParameter);
+        validatePageSize(size);
+        log.info("[GATEWAY] Get bookings with bookingStatus='{}' and renter with id='{}', after='{}', size='{}'",
+                bookingStatusParameter, renterId, after, size);
+        return bookingClient.getBookingsByRenterId(renterId, bookingStatusParameter, after, size);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getAllBookingsOfItemOwner(
             @RequestHeader(Constants.USER_ID_HEADER) long ownerId,
-            @RequestParam(defaultValue = "ALL") String statusRequest) {
+            @RequestParam(defaultValue = "ALL") String statusRequest,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size) {
 
         BookingStatusParameter bookingStatusParameter = BookingStatusParameter.get(statusRequest)
                 .orElseThrow(() -> new InvalidBookingStatusException("Unknown bookingStatus: " + statusRequest));
+        validatePageSize(size);
 
-        log.info("[GATEWAY] Get bookings with bookingStatus='{}' and item owner with id='{}'", bookingStatusParameter, ownerId);
-        return bookingClient.getBookingsByOwnerId(ownerId, bookingStatusParameter);
+        log.info("[GATEWAY] Get bookings with bookingStatus='{}' and item owner with id='{}', after='{}', size='{}'",
+                bookingStatusParameter, ownerId, after, size);
+        return bookingClient.getBookingsByOwnerId(ownerId, bookingStatusParameter, after, size);
+    }
+
+    // SSE-поток изменений статусов бронирований пользователя вместо опроса GET /bookings
+    @GetMapping("/events")
+    public ResponseEntity<ResponseBodyEmitter> streamBookingEvents(@RequestHeader(Constants.USER_ID_HEADER) long userId) {
+        log.info("[GATEWAY] Subscribe user with id='{}' to booking status events", userId);
+        return bookingClient.streamBookingEvents(userId);
     }
 
     @GetMapping("/{bookingId}")
@@ -62,6 +80,14 @@ public class BookingController {
         return bookingClient.approveBooking(bookingId, ownerId, isApproved);
     }
 
+    // Решения владельца по пачке бронирований за один запрос: в ответе итог по каждому id
+    @PatchMapping("/approvals")
+    public ResponseEntity<Object> approveBookings(@RequestHeader(Constants.USER_ID_HEADER) long ownerId,
+                                                  @RequestBody @Valid BookingBulkApprovalRequestDto requestDto) {
+        log.info("[GATEWAY] Bulk approve {} bookings by owner with ID = '{}'", requestDto.getDecisions().size(), ownerId);
+        return bookingClient.approveBookings(ownerId, requestDto);
+    }
+
     @PostMapping
     public ResponseEntity<Object> bookItem(@RequestHeader(Constants.USER_ID_HEADER) long userId,
                                            @RequestBody @Valid BookingRequestDto requestDto) {
@@ -74,4 +100,10 @@ public class BookingController {
         }
         return bookingClient.bookItem(userId, requestDto);
     }
+
+    private static void validatePageSize(Integer size) {
+        if (size != null && size <= 0) {
+            throw new InvalidPageParameterException("Page size should be positive, but was " + size);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+// Один пул соединений на все клиенты шлюза вместо отдельного пула с настройками по умолчанию в каждом клиенте.
+// Бинов клиента и пула по два (обычные запросы и потоки событий), поэтому внедряются они только по @Qualifier
+@Configuration
+@EnableConfigurationProperties(ShareitServerClientProperties.class)
+public class ShareitServerClientConfig {
+
+    @Bean
+    public PoolingHttpClientConnectionManager shareitServerConnectionManager(ShareitServerClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(toTimeout(properties.getConnectTimeout()))
+                        .setSocketTimeout(toTimeout(properties.getResponseTimeout()))
+                        .setTimeToLive(toTimeValue(properties.getTimeToLive()))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient shareitServerHttpClient(
+            @Qualifier("shareitServerConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+            ShareitServerClientProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(toTimeout(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(toTimeout(properties.getResponseTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(toTimeValue(properties.getIdleEvictionTimeout()))
+                .build();
+    }
+
+    // Пул потоков событий: без таймаута чтения, поток может молчать между событиями сколько угодно.
+    // Время жизни потока ограничивает таймаут асинхронного запроса в BookingClient
+    @Bean
+    public PoolingHttpClientConnectionManager shareitServerEventsConnectionManager(
+            ShareitServerClientProperties properties) {
+        int maxConnections = properties.getEvents().getMaxConnections();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(toTimeout(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.DISABLED)
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient shareitServerEventsHttpClient(
+            @Qualifier("shareitServerEventsConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+            ShareitServerClientProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(toTimeout(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.DISABLED)
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public MeterBinder shareitServerConnectionPoolMetrics(
+            @Qualifier("shareitServerConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+            @Qualifier("shareitServerEventsConnectionManager") PoolingHttpClientConnectionManager eventsManager) {
+        return registry -> {
+            registerPoolGauges(registry, connectionManager, "shareit.gateway.http.pool.");
+            registerPoolGauges(registry, eventsManager, "shareit.gateway.http.events.pool.");
+        };
+    }
+
+    private static void registerPoolGauges(MeterRegistry registry,
+                                           PoolingHttpClientConnectionManager connectionManager,
+                                           String prefix) {
+        registerPoolGauge(registry, connectionManager, prefix, "leased", PoolStats::getLeased);
+        registerPoolGauge(registry, connectionManager, prefix, "available", PoolStats::getAvailable);
+        registerPoolGauge(registry, connectionManager, prefix, "pending", PoolStats::getPending);
+        registerPoolGauge(registry, connectionManager, prefix, "max", PoolStats::getMax);
+    }
+
+    private static void registerPoolGauge(MeterRegistry registry,
+                                          PoolingHttpClientConnectionManager connectionManager,
+                                          String prefix,
+                                          String name,
+                                          ToIntFunction<PoolStats> value) {
+        Gauge.builder(prefix + name, connectionManager, manager -> value.applyAsInt(manager.getTotalStats()))
+                .description("Gateway to server HTTP connection pool: " + name + " connections")
+                .register(registry);
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue toTimeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+}
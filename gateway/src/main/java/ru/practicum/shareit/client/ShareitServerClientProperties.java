@@ -0,0 +1,33 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Настройки общего пула HTTP-соединений шлюза с сервером
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.client")
+public class ShareitServerClientProperties {
+    private int maxTotal = 200;
+    // Все клиенты ходят на один сервер, поэтому лимит на маршрут совпадает с общим
+    private int maxPerRoute = 200;
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration responseTimeout = Duration.ofSeconds(30);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+    private Duration idleEvictionTimeout = Duration.ofSeconds(30);
+    private Duration timeToLive = Duration.ofMinutes(5);
+    private Events events = new Events();
+
+    // Потоки событий бронирований идут через свой пул: SSE-соединение занято все время жизни потока
+    // и не должно отнимать соединения у обычных запросов
+    @Getter
+    @Setter
+    public static class Events {
+        private int maxConnections = 1000;
+        // Чуть больше таймаута потока на сервере (shareit.booking.events.timeout): поток штатно закрывает сервер
+        private Duration streamTimeout = Duration.ofMinutes(31);
+    }
+}
@@ -27,7 +27,8 @@ public class GatewayExceptionHandler {
     @ExceptionHandler({
             InvalidBookingStatusException.class,
             InvalidBookingDateException.class,
-            InvalidUpdateDataException.class
+            InvalidUpdateDataException.class,
+            InvalidPageParameterException.class
     })
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Map<String, String> handleBadRequestException(RuntimeException ex) {
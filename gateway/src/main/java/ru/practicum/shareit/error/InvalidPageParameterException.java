@@ -0,0 +1,7 @@
+package ru.practicum.shareit.error;
+
+public class InvalidPageParameterException extends RuntimeException {
+    public InvalidPageParameterException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.item;
 
+import org.apache.hc.client5.http.classic.HttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
@@ -18,11 +20,12 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      @Qualifier("shareitServerHttpClient") HttpClient shareitServerHttpClient) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
+                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(shareitServerHttpClient))
                         .build()
         );
     }
@@ -39,10 +42,12 @@ public class ItemClient extends BaseClient {
         return get("", ownerId);
     }
 
-    public ResponseEntity<Object> getByOwnerIdAndSearchText(long userId, String text) {
-        String path = "/search?text={searchString}";
+    public ResponseEntity<Object> getByOwnerIdAndSearchText(long userId, String text, int from, int size) {
+        String path = "/search?text={searchString}&from={from}&size={size}";
         Map<String, Object> parameters = Map.of(
-                "searchString", text
+                "searchString", text,
+                "from", from,
+                "size", size
         );
         return get(path, userId, parameters);
     }
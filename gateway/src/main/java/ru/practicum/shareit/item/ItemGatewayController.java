@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.error.InvalidPageParameterException;
 import ru.practicum.shareit.error.InvalidUpdateDataException;
 import ru.practicum.shareit.item.dto.ItemPatchDto;
 import ru.practicum.shareit.item.dto.ItemPostDto;
@@ -19,6 +20,8 @@ import java.util.List;
 @Slf4j
 @Profile("gateway")
 public class ItemGatewayController {
+    private static final int MAX_SEARCH_SIZE = 1000;
+
     private final ItemClient client;
 
     @PostMapping
@@ -51,9 +54,19 @@ public class ItemGatewayController {
 
     @GetMapping("/search")
     public ResponseEntity<Object> searchItemsOfOwnerByItemText(@RequestParam(name = "text") String text,
-                                                               @RequestHeader(Constants.USER_ID_HEADER) long userId) {
-        log.info("[GATEWAY] Received request to search items. Text = '{}', UserId = {}", text, userId);
-        return text.isBlank() ? ResponseEntity.ok(List.of()) : client.getByOwnerIdAndSearchText(userId, text);
+                                                               @RequestHeader(Constants.USER_ID_HEADER) long userId,
+                                                               @RequestParam(defaultValue = "0") int from,
+                                                               @RequestParam(defaultValue = "100") int size) {
+        log.info("[GATEWAY] Received request to search items. Text = '{}', UserId = {}, From = {}, Size = {}",
+                text, userId, from, size);
+        if (from < 0) {
+            throw new InvalidPageParameterException("Page offset should not be negative, but was " + from);
+        }
+        if (size <= 0 || size > MAX_SEARCH_SIZE) {
+            throw new InvalidPageParameterException(
+                    "Page size should be between 1 and " + MAX_SEARCH_SIZE + ", but was " + size);
+        }
+        return text.isBlank() ? ResponseEntity.ok(List.of()) : client.getByOwnerIdAndSearchText(userId, text, from, size);
     }
 
     @GetMapping("/{itemId}")
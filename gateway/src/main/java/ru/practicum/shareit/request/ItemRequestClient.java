@@ -1,25 +1,33 @@
 package ru.practicum.shareit.request;
 
+import org.apache.hc.client5.http.classic.HttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.request.dto.ItemRequestPostDto;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
 @Service
 public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             @Qualifier("shareitServerHttpClient") HttpClient shareitServerHttpClient) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
+                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(shareitServerHttpClient))
                         .build()
         );
     }
@@ -28,15 +36,42 @@ public class ItemRequestClient extends BaseClient {
         return post("", userId, objectBody);
     }
 
-    public ResponseEntity<Object> getUserRequests(long userId) {
-        return get("", userId);
+    public ResponseEntity<Object> getUserRequests(long userId, @Nullable Integer from, @Nullable String after,
+                                                  @Nullable Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        return get(pageQuery(parameters, from, after, size), userId, parameters);
     }
 
     public ResponseEntity<Object> getUserRequestById(long userId, long requestId) {
         return get("/" + requestId, userId);
     }
 
-    public ResponseEntity<Object> getAllOtherRequests(long userId) {
-        return get("/all", userId);
+    public ResponseEntity<Object> getRequestMatches(long userId, long requestId) {
+        return get("/" + requestId + "/matches", userId);
+    }
+
+    public ResponseEntity<Object> getAllOtherRequests(long userId, @Nullable Integer from, @Nullable String after,
+                                                      @Nullable Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        return get("/all" + pageQuery(parameters, from, after, size), userId, parameters);
+    }
+
+    // Пробрасывает на сервер только те параметры страницы, которые передал клиент
+    private static String pageQuery(Map<String, Object> parameters, @Nullable Integer from, @Nullable String after,
+                                    @Nullable Integer size) {
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        if (from != null) {
+            parameters.put("from", from);
+            query.add("from={from}");
+        }
+        if (after != null) {
+            parameters.put("after", after);
+            query.add("after={after}");
+        }
+        if (size != null) {
+            parameters.put("size", size);
+            query.add("size={size}");
+        }
+        return query.toString();
     }
 }
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.error.InvalidPageParameterException;
 import ru.practicum.shareit.request.dto.ItemRequestPostDto;
 import ru.practicum.shareit.util.Constants;
 
@@ -25,9 +26,13 @@ public class ItemRequestGatewayController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> getUserRequests(@RequestHeader(Constants.USER_ID_HEADER) long userId) {
-        log.info("[GATEWAY] Get all item requests for userId='{}'", userId);
-        return client.getUserRequests(userId);
+    public ResponseEntity<Object> getUserRequests(@RequestHeader(Constants.USER_ID_HEADER) long userId,
+                                                  @RequestParam(required = false) Integer from,
+                                                  @RequestParam(required = false) String after,
+                                                  @RequestParam(required = false) Integer size) {
+        validatePage(from, size);
+        log.info("[GATEWAY] Get item requests for userId='{}', from='{}', after='{}', size='{}'", userId, from, after, size);
+        return client.getUserRequests(userId, from, after, size);
     }
 
     @GetMapping("/{itemRequestId}")
@@ -37,9 +42,31 @@ public class ItemRequestGatewayController {
         return client.getUserRequestById(userId, requestId);
     }
 
+    // Вещи, подобранные к запросу автоматически при их создании
+    @GetMapping("/{itemRequestId}/matches")
+    public ResponseEntity<Object> getRequestMatches(@PathVariable(name = "itemRequestId") long requestId,
+                                                    @RequestHeader(Constants.USER_ID_HEADER) long userId) {
+        log.info("[GATEWAY] Get matched items for requestId='{}' and requesterId='{}'", requestId, userId);
+        return client.getRequestMatches(userId, requestId);
+    }
+
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllOtherRequests(@RequestHeader(Constants.USER_ID_HEADER) long userId) {
-        log.info("[GATEWAY] Get all item requests created by other users for userId='{}'", userId);
-        return client.getAllOtherRequests(userId);
+    public ResponseEntity<Object> getAllOtherRequests(@RequestHeader(Constants.USER_ID_HEADER) long userId,
+                                                      @RequestParam(required = false) Integer from,
+                                                      @RequestParam(required = false) String after,
+                                                      @RequestParam(required = false) Integer size) {
+        validatePage(from, size);
+        log.info("[GATEWAY] Get item requests created by other users for userId='{}', from='{}', after='{}', size='{}'",
+                userId, from, after, size);
+        return client.getAllOtherRequests(userId, from, after, size);
+    }
+
+    private static void validatePage(Integer from, Integer size) {
+        if (from != null && from < 0) {
+            throw new InvalidPageParameterException("Page offset should not be negative, but was " + from);
+        }
+        if (size != null && size <= 0) {
+            throw new InvalidPageParameterException("Page size should be positive, but was " + size);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package ru.practicum.shareit.booking;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.util.Constants;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Сервер-заглушка отдает второе событие только после того, как клиент шлюза получил первое:
+// если шлюз буферизует поток, первое событие не дойдет и тест упадет по таймауту
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "shareit-server.client.events.stream-timeout=" + BookingEventsProxyTest.STREAM_TIMEOUT_SECONDS + "s")
+@ActiveProfiles("gateway")
+class BookingEventsProxyTest {
+    private static final long STREAMING_USER_ID = 1;
+    private static final long ENDLESS_USER_ID = 2;
+    private static final long EXPIRING_USER_ID = 3;
+    private static final long UNKNOWN_USER_ID = 404;
+    private static final long TIMEOUT_SECONDS = 10;
+    static final long STREAM_TIMEOUT_SECONDS = 2;
+
+    private static final CountDownLatch FIRST_EVENT_RECEIVED = new CountDownLatch(1);
+    private static final CountDownLatch SERVER_SAW_DISCONNECT = new CountDownLatch(1);
+    private static final HttpServer SERVER = startServer();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    @Qualifier("shareitServerConnectionManager")
+    private PoolingHttpClientConnectionManager shareitServerConnectionManager;
+
+    @Autowired
+    @Qualifier("shareitServerEventsConnectionManager")
+    private PoolingHttpClientConnectionManager shareitServerEventsConnectionManager;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop(0);
+    }
+
+    @Test
+    void streamBookingEvents_shouldRelayEachEventWithoutBuffering() throws Exception {
+        HttpResponse<InputStream> response = client.send(eventsRequest(STREAMING_USER_ID),
+                HttpResponse.BodyHandlers.ofInputStream());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                contentType -> assertThat(contentType).startsWith("text/event-stream"));
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            assertThat(reader.readLine()).isEqualTo("data:first");
+            FIRST_EVENT_RECEIVED.countDown();
+            assertThat(reader.readLine()).isEmpty();
+            assertThat(reader.readLine()).isEqualTo("data:second");
+        }
+    }
+
+    @Test
+    void streamBookingEvents_whenClientDisconnects_shouldReleaseServerConnection() throws Exception {
+        HttpResponse<InputStream> response = client.send(eventsRequest(ENDLESS_USER_ID),
+                HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body().read()).isNotNegative();
+        // Поток держит соединение из своего пула, общий пул обычных запросов не занят
+        assertThat(shareitServerEventsConnectionManager.getTotalStats().getLeased()).isEqualTo(1);
+        assertThat(shareitServerConnectionManager.getTotalStats().getLeased()).isZero();
+
+        response.body().close();
+
+        assertThat(SERVER_SAW_DISCONNECT.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        awaitNoLeasedEventsConnections();
+    }
+
+    @Test
+    void streamBookingEvents_whenStreamTimeoutExpires_shouldCloseStreamAndReleaseServerConnection() throws Exception {
+        HttpResponse<InputStream> response = client.send(eventsRequest(EXPIRING_USER_ID),
+                HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        long started = System.nanoTime();
+        try (InputStream body = response.body()) {
+            body.readAllBytes();
+        }
+
+        assertThat(System.nanoTime() - started)
+                .isLessThan(TimeUnit.SECONDS.toNanos(STREAM_TIMEOUT_SECONDS + TIMEOUT_SECONDS));
+        awaitNoLeasedEventsConnections();
+    }
+
+    private void awaitNoLeasedEventsConnections() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (shareitServerEventsConnectionManager.getTotalStats().getLeased() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(shareitServerEventsConnectionManager.getTotalStats().getLeased()).isZero();
+    }
+
+    @Test
+    void streamBookingEvents_whenServerRejects_shouldPassStatusAndBodyThrough() throws Exception {
+        HttpResponse<String> response = client.send(eventsRequest(UNKNOWN_USER_ID),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(404);
+        assertThat(response.body()).isEqualTo("{\"error\":\"User not found\"}");
+    }
+
+    private HttpRequest eventsRequest(long userId) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/bookings/events"))
+                .header(Constants.USER_ID_HEADER, String.valueOf(userId))
+                .build();
+    }
+
+    private static HttpServer startServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/bookings/events", exchange -> {
+                long userId = Long.parseLong(exchange.getRequestHeaders().getFirst(Constants.USER_ID_HEADER));
+                if (userId == UNKNOWN_USER_ID) {
+                    byte[] body = "{\"error\":\"User not found\"}".getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(404, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                    return;
+                }
+                exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+                exchange.sendResponseHeaders(200, 0);
+                if (userId == STREAMING_USER_ID) {
+                    streamTwoEvents(exchange);
+                } else {
+                    streamUntilDisconnect(exchange, userId == ENDLESS_USER_ID);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void streamTwoEvents(HttpExchange exchange) throws IOException {
+        try (OutputStream out = exchange.getResponseBody()) {
+            write(out, "data:first\n\n");
+            if (!FIRST_EVENT_RECEIVED.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return;
+            }
+            write(out, "data:second\n\n");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void streamUntilDisconnect(HttpExchange exchange, boolean reportDisconnect) {
+        try (OutputStream out = exchange.getResponseBody()) {
+            while (true) {
+                write(out, ":heartbeat\n\n");
+                Thread.sleep(50);
+            }
+        } catch (IOException e) {
+            if (reportDisconnect) {
+                SERVER_SAW_DISCONNECT.countDown();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void write(OutputStream out, String chunk) throws IOException {
+        out.write(chunk.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+// Нагрузочная проверка шлюза: медленный сервер-заглушка и пул Tomcat из двух потоков.
+// Показатель пропускной способности - максимальное число запросов, одновременно ожидающих ответа сервера.
+// Заглушка держит каждый запрос, пока не придут все CONCURRENT_REQUESTS или не истечет время удержания,
+// поэтому результат не зависит от того, как быстро шлюз успевает разослать запросы
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"server.tomcat.threads.max=2", "server.tomcat.threads.min-spare=1"})
+@ActiveProfiles("gateway")
+abstract class AbstractGatewayConcurrencyTest {
+    static final int TOMCAT_THREADS = 2;
+    static final int CONCURRENT_REQUESTS = 20;
+
+    private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+    private static final AtomicInteger MAX_IN_FLIGHT = new AtomicInteger();
+    private static volatile CountDownLatch arrivals;
+    private static volatile Duration hold;
+    // Общая заглушка для всех наследников, живет до завершения JVM тестов
+    private static final HttpServer SERVER = startServer();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getAddress().getPort());
+    }
+
+    @BeforeEach
+    void resetCounters() {
+        IN_FLIGHT.set(0);
+        MAX_IN_FLIGHT.set(0);
+        arrivals = new CountDownLatch(CONCURRENT_REQUESTS);
+    }
+
+    int sendConcurrentRequestsAndGetMaxInFlight(Duration serverHold) {
+        hold = serverHold;
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, CONCURRENT_REQUESTS)
+                .mapToObj(i -> HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users/1")).build())
+                .map(request -> client.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                .toList();
+
+        responses.forEach(response -> {
+            if (response.join().statusCode() != 200) {
+                throw new AssertionError("Unexpected gateway response: " + response.join().body());
+            }
+        });
+        return MAX_IN_FLIGHT.get();
+    }
+
+    private static HttpServer startServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/users", exchange -> {
+                MAX_IN_FLIGHT.accumulateAndGet(IN_FLIGHT.incrementAndGet(), Math::max);
+                arrivals.countDown();
+                try {
+                    arrivals.await(hold.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    IN_FLIGHT.decrementAndGet();
+                }
+                byte[] body = "{\"id\":1,\"name\":\"User\",\"email\":\"user@example.com\"}"
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
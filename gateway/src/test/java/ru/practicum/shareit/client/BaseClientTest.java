@@ -0,0 +1,77 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static ru.practicum.shareit.util.Constants.USER_ID_HEADER;
+
+class BaseClientTest {
+    private MockRestServiceServer server;
+    private BaseClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate rest = new RestTemplate();
+        server = MockRestServiceServer.bindTo(rest).build();
+        client = new BaseClient(rest);
+    }
+
+    @Test
+    void get_shouldPassServerBodyThroughUnchanged() {
+        // Форматирование и порядок полей сохраняются - значит, тело не разбиралось и не сериализовалось заново
+        String serverBody = "[ {\"id\" : 2, \"status\" : \"WAITING\"}, {\"id\":1} ]";
+        server.expect(requestTo("/bookings/owner"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(USER_ID_HEADER, "7"))
+                .andRespond(withSuccess(serverBody, MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> response = client.get("/bookings/owner", 7L);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getBody()).isInstanceOf(byte[].class);
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).isEqualTo(serverBody);
+        server.verify();
+    }
+
+    @Test
+    void get_whenServerReturnsError_shouldPassStatusAndBodyThrough() {
+        String errorBody = "{\"error\":\"Item not found\"}";
+        server.expect(requestTo("/items/42"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(errorBody));
+
+        ResponseEntity<Object> response = client.get("/items/42", 7L);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).isEqualTo(errorBody);
+    }
+
+    @Test
+    void delete_whenServerReturnsEmptyBody_shouldReturnResponseWithoutBody() {
+        server.expect(requestTo("/users/1"))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withStatus(HttpStatus.OK));
+
+        ResponseEntity<Object> response = client.delete("/users/1");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.hasBody()).isFalse();
+    }
+}
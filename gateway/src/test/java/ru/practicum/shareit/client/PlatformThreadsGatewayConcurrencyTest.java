@@ -0,0 +1,19 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadsGatewayConcurrencyTest extends AbstractGatewayConcurrencyTest {
+
+    @Test
+    void concurrentRequests_shouldBeLimitedByTomcatThreadPool() {
+        // Больше TOMCAT_THREADS запросов не приходит, каждая пара отпускается по истечении удержания
+        assertThat(sendConcurrentRequestsAndGetMaxInFlight(Duration.ofMillis(500)))
+                .isLessThanOrEqualTo(TOMCAT_THREADS);
+    }
+}
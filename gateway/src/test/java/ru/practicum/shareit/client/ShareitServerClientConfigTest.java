@@ -0,0 +1,23 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "shareit-server.client.max-total=50")
+class ShareitServerClientConfigTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void connectionPoolGauges_shouldBeRegisteredWithConfiguredLimits() {
+        assertThat(meterRegistry.get("shareit.gateway.http.pool.max").gauge().value()).isEqualTo(50);
+        assertThat(meterRegistry.get("shareit.gateway.http.pool.leased").gauge().value()).isZero();
+        assertThat(meterRegistry.get("shareit.gateway.http.pool.available").gauge()).isNotNull();
+        assertThat(meterRegistry.get("shareit.gateway.http.pool.pending").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadsGatewayConcurrencyTest extends AbstractGatewayConcurrencyTest {
+
+    @Test
+    void concurrentRequests_shouldNotBeLimitedByTomcatThreadPool() {
+        // Все запросы должны одновременно дойти до заглушки, время удержания - лишь страховка от зависания
+        assertThat(sendConcurrentRequestsAndGetMaxInFlight(Duration.ofSeconds(10))).isEqualTo(CONCURRENT_REQUESTS);
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Сценарий одного пользователя по запросам коллекции: владелец и арендатор, вещь, поиск, бронирование,
+// подтверждение, список бронирований, отзыв после окончания бронирования и вещь с отзывами.
+// Переменные, которые в Postman заполняют pre-request скрипты, сценарий вычисляет сам
+class BookingFlowScenario {
+    // Поиска нет в коллекции: запрос описан здесь в том же формате
+    static final RequestTemplate SEARCH_ITEMS = new RequestTemplate("Search items", "GET",
+            "/items/search?text={{searchText}}", Map.of("X-Sharer-User-Id", "{{userId}}", "Accept", "*/*"), null);
+
+    private static final String[] TOOLS = {"drill", "saw", "ladder", "hammer", "sander"};
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    // Бронирование должно начаться в будущем, а отзыв возможен только после его окончания
+    private static final Duration BOOKING_START_DELAY = Duration.ofSeconds(2);
+    private static final Duration BOOKING_LENGTH = Duration.ofSeconds(1);
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final RequestTemplate createUser;
+    private final RequestTemplate createItem;
+    private final RequestTemplate createBooking;
+    private final RequestTemplate approveBooking;
+    private final RequestTemplate getBookerBookings;
+    private final RequestTemplate createComment;
+    private final RequestTemplate getItemWithComments;
+
+    BookingFlowScenario(PostmanCollection collection) {
+        createUser = collection.request("Create user");
+        createItem = collection.request("Create Item");
+        createBooking = collection.request("Booking available item");
+        approveBooking = collection.request("Booking approve");
+        getBookerBookings = collection.request("Get all user bookings");
+        createComment = collection.request("Comment past booking");
+        getItemWithComments = collection.request("Get item with comments");
+    }
+
+    void run(ShareItClient client) throws IOException, InterruptedException {
+        long sequence = SEQUENCE.incrementAndGet();
+        String tool = TOOLS[ThreadLocalRandom.current().nextInt(TOOLS.length)];
+        Map<String, String> variables = new HashMap<>();
+
+        String ownerId = createUser(client, variables, "owner", sequence);
+        String bookerId = createUser(client, variables, "booker", sequence);
+
+        variables.put("userId", ownerId);
+        variables.put("itemName", tool + " " + sequence);
+        variables.put("itemDescription", "Load test " + tool + " in good condition");
+        variables.put("itemAvailable", "true");
+        String itemId = client.send(createItem, variables).path("id").asText();
+        variables.put("itemId", itemId);
+
+        variables.put("userId", bookerId);
+        variables.put("searchText", tool);
+        client.send(SEARCH_ITEMS, variables);
+
+        LocalDateTime start = LocalDateTime.now().plus(BOOKING_START_DELAY).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime end = start.plus(BOOKING_LENGTH);
+        variables.put("start", DATE_TIME.format(start));
+        variables.put("end", DATE_TIME.format(end));
+        variables.put("bookingId", client.send(createBooking, variables).path("id").asText());
+
+        variables.put("userId", ownerId);
+        client.send(approveBooking, variables);
+
+        variables.put("userId", bookerId);
+        client.send(getBookerBookings, variables);
+
+        // Ожидание окончания бронирования - пауза пользователя, в задержки запросов она не входит
+        Duration untilEnd = Duration.between(LocalDateTime.now(), end);
+        if (!untilEnd.isNegative()) {
+            Thread.sleep(untilEnd.plusMillis(100));
+        }
+        variables.put("commentText", "Great " + tool + ", thanks! #" + sequence);
+        client.send(createComment, variables);
+        client.send(getItemWithComments, variables);
+    }
+
+    private String createUser(ShareItClient client, Map<String, String> variables, String role, long sequence)
+            throws IOException, InterruptedException {
+        variables.put("userName", role + " " + sequence);
+        variables.put("userEmail", role + "-" + sequence + "-" + System.nanoTime() + "@load.test");
+        JsonNode user = client.send(createUser, variables);
+        return user.path("id").asText();
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Задержки ответов по эндпоинтам. Хранятся все замеры: для локального прогона это единицы мегабайт,
+// зато перцентили считаются точно, без погрешности гистограммы
+class LatencyRecorder {
+    private final Map<String, EndpointSamples> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointSamples()).add(latencyNanos, success);
+    }
+
+    // Отбрасывает замеры прогрева
+    void reset() {
+        endpoints.clear();
+    }
+
+    List<EndpointReport> report(double measuredSeconds) {
+        List<EndpointReport> reports = new ArrayList<>();
+        endpoints.forEach((endpoint, samples) -> reports.add(samples.toReport(endpoint, measuredSeconds)));
+        reports.sort((left, right) -> left.endpoint().compareTo(right.endpoint()));
+        return reports;
+    }
+
+    // Ближайший ранг: значение, не меньше которого percentile процентов замеров
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    record EndpointReport(String endpoint, long count, long errors, double throughputPerSecond,
+                          double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    private static class EndpointSamples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void add(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointReport toReport(String endpoint, double measuredSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new EndpointReport(endpoint, count, errors, count / measuredSeconds,
+                    toMillis(percentile(sorted, 50)), toMillis(percentile(sorted, 95)),
+                    toMillis(percentile(sorted, 99)), toMillis(count == 0 ? 0 : sorted[count - 1]));
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.List;
+
+// Итог прогона: пишется в JSON для сравнения между релизами и печатается таблицей
+record LoadReport(int users,
+                  double rate,
+                  double measuredSeconds,
+                  long scenariosCompleted,
+                  long scenariosFailed,
+                  long scenariosDropped,
+                  List<LatencyRecorder.EndpointReport> endpoints) {
+
+    long requests() {
+        return endpoints.stream().mapToLong(LatencyRecorder.EndpointReport::count).sum();
+    }
+
+    long errors() {
+        return endpoints.stream().mapToLong(LatencyRecorder.EndpointReport::errors).sum();
+    }
+
+    double errorRate() {
+        long requests = requests();
+        return requests == 0 ? 0 : (double) errors() / requests;
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%-45s %8s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Count", "Errors", "Req/s", "p50, ms", "p95, ms", "p99, ms", "Max, ms"));
+        for (LatencyRecorder.EndpointReport endpoint : endpoints) {
+            table.append(String.format("%-45s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.endpoint(), endpoint.count(), endpoint.errors(), endpoint.throughputPerSecond(),
+                    endpoint.p50Ms(), endpoint.p95Ms(), endpoint.p99Ms(), endpoint.maxMs()));
+        }
+        table.append(String.format("Scenarios: completed %d, failed %d, dropped %d in %.1f s; error rate %.4f",
+                scenariosCompleted, scenariosFailed, scenariosDropped, measuredSeconds, errorRate()));
+        return table.toString();
+    }
+}
@@ -0,0 +1,110 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Закрытая модель: users пользователей повторяют сценарий без пауз, нагрузка подстраивается под скорость ответов.
+// Открытая модель: сценарии стартуют с частотой rate независимо от ответов, users ограничивает число одновременных;
+// сценарий, которому не хватило места, считается отброшенным - это признак того, что система не держит заданный поток
+@Slf4j
+class LoadRunner {
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+
+    private final LoadTestOptions options;
+    private final BookingFlowScenario scenario;
+    private final ShareItClient client;
+    private final LatencyRecorder recorder;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running = true;
+
+    LoadRunner(LoadTestOptions options, BookingFlowScenario scenario, ShareItClient client, LatencyRecorder recorder) {
+        this.options = options;
+        this.scenario = scenario;
+        this.client = client;
+        this.recorder = recorder;
+    }
+
+    LoadReport run() throws InterruptedException {
+        List<Thread> users = new ArrayList<>();
+        ScheduledExecutorService arrivals = null;
+        if (options.isOpenModel()) {
+            arrivals = startArrivals();
+        } else {
+            for (int i = 0; i < options.users(); i++) {
+                users.add(Thread.ofVirtual().name("virtual-user-" + i).start(this::repeatScenario));
+            }
+        }
+
+        log.info("[LOAD TEST] Warming up for {}", options.warmup());
+        Thread.sleep(options.warmup().toMillis());
+        recorder.reset();
+        completed.set(0);
+        failed.set(0);
+        dropped.set(0);
+
+        log.info("[LOAD TEST] Measuring for {}", options.duration());
+        long started = System.nanoTime();
+        Thread.sleep(options.duration().toMillis());
+        double measuredSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        LoadReport report = new LoadReport(options.users(), options.rate(), measuredSeconds,
+                completed.get(), failed.get(), dropped.get(), recorder.report(measuredSeconds));
+
+        running = false;
+        if (arrivals != null) {
+            arrivals.shutdownNow();
+        }
+        for (Thread user : users) {
+            user.join(TimeUnit.SECONDS.toMillis(STOP_TIMEOUT_SECONDS));
+        }
+        return report;
+    }
+
+    private ScheduledExecutorService startArrivals() {
+        Semaphore inFlight = new Semaphore(options.users());
+        ScheduledExecutorService arrivals = Executors.newSingleThreadScheduledExecutor();
+        long periodNanos = (long) (1_000_000_000 / options.rate());
+        arrivals.scheduleAtFixedRate(() -> {
+            if (!inFlight.tryAcquire()) {
+                dropped.incrementAndGet();
+                return;
+            }
+            Thread.ofVirtual().start(() -> {
+                try {
+                    runScenario();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }, 0, periodNanos, TimeUnit.NANOSECONDS);
+        return arrivals;
+    }
+
+    private void repeatScenario() {
+        while (running) {
+            runScenario();
+        }
+    }
+
+    private void runScenario() {
+        try {
+            scenario.run(client);
+            completed.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Сценарий прерывается на первом ошибочном шаге: следующие шаги зависят от его результата
+            failed.incrementAndGet();
+            log.debug("[LOAD TEST] Scenario failed: {}", e.getMessage());
+        }
+    }
+}
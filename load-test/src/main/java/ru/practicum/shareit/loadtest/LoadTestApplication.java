@@ -0,0 +1,43 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Files;
+
+// Нагрузочный прогон сценария бронирования через шлюз. Код выхода 1, если доля ошибочных ответов выше допустимой
+@Slf4j
+public class LoadTestApplication {
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        BookingFlowScenario scenario = new BookingFlowScenario(PostmanCollection.read(options.collection(), objectMapper));
+
+        LoadReport report;
+        if (options.launch()) {
+            try (LocalStack ignored = LocalStack.start(options)) {
+                report = run(options, scenario, objectMapper);
+            }
+        } else {
+            report = run(options, scenario, objectMapper);
+        }
+
+        Files.createDirectories(options.report().toAbsolutePath().getParent());
+        objectMapper.writeValue(options.report().toFile(), report);
+        log.info("[LOAD TEST] Results ({} users, rate {}/s), report written to {}:\n{}",
+                options.users(), options.rate(), options.report(), report.toTable());
+
+        if (report.errorRate() > options.maxErrorRate()) {
+            log.error("[LOAD TEST] Error rate {} is above allowed {}", report.errorRate(), options.maxErrorRate());
+            System.exit(1);
+        }
+    }
+
+    private static LoadReport run(LoadTestOptions options, BookingFlowScenario scenario, ObjectMapper objectMapper)
+            throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        ShareItClient client = new ShareItClient(options.baseUrl(), objectMapper, recorder);
+        return new LoadRunner(options, scenario, client, recorder).run();
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// Параметры запуска в виде --ключ=значение:
+//   --base-url        адрес шлюза (http://localhost:8080)
+//   --collection      коллекция Postman, из которой берутся шаблоны запросов (postman/sprint.json)
+//   --users           число виртуальных пользователей, одновременно проходящих сценарий (20)
+//   --rate            новых сценариев в секунду; 0 - закрытая модель, каждый пользователь повторяет сценарий сразу (0)
+//   --duration        длительность измерения (60s)
+//   --warmup          прогрев до начала измерения, его результаты отбрасываются (10s)
+//   --report          файл отчета в JSON (load-test/target/load-test-report.json)
+//   --max-error-rate  допустимая доля ошибочных ответов, при превышении код выхода 1 (0.01)
+//   --launch          поднять сервер (H2) и шлюз из собранных jar на время прогона
+//   --server-jar, --gateway-jar  пути к jar для --launch
+record LoadTestOptions(String baseUrl,
+                       Path collection,
+                       int users,
+                       double rate,
+                       Duration duration,
+                       Duration warmup,
+                       Path report,
+                       double maxErrorRate,
+                       boolean launch,
+                       Path serverJar,
+                       Path gatewayJar) {
+
+    static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Option should have format --name=value, but was " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                values.getOrDefault("base-url", "http://localhost:8080"),
+                Path.of(values.getOrDefault("collection", "postman/sprint.json")),
+                Integer.parseInt(values.getOrDefault("users", "20")),
+                Double.parseDouble(values.getOrDefault("rate", "0")),
+                parseDuration(values.getOrDefault("duration", "60s")),
+                parseDuration(values.getOrDefault("warmup", "10s")),
+                Path.of(values.getOrDefault("report", "load-test/target/load-test-report.json")),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01")),
+                Boolean.parseBoolean(values.getOrDefault("launch", "false")),
+                Path.of(values.getOrDefault("server-jar", "server/target/server-0.0.1-SNAPSHOT.jar")),
+                Path.of(values.getOrDefault("gateway-jar", "gateway/target/gateway-0.0.1-SNAPSHOT.jar")));
+        if (options.users() <= 0) {
+            throw new IllegalArgumentException("Number of users should be positive, but was " + options.users());
+        }
+        if (options.rate() < 0) {
+            throw new IllegalArgumentException("Arrival rate should not be negative, but was " + options.rate());
+        }
+        return options;
+    }
+
+    boolean isOpenModel() {
+        return rate > 0;
+    }
+
+    // 500ms, 30s, 2m
+    static Duration parseDuration(String value) {
+        String text = value.trim();
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Duration should end with ms, s or m, but was " + value);
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Сервер на H2 (профиль test) и шлюз из собранных jar в дочерних процессах. Логи процессов пишутся рядом
+// с отчетом; SQL и трассировка сервиса выключены, чтобы вывод в лог не стал узким местом под нагрузкой
+@Slf4j
+class LocalStack implements AutoCloseable {
+    private static final int SERVER_PORT = 9090;
+    private static final int GATEWAY_PORT = 8080;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process server;
+    private final Process gateway;
+
+    private LocalStack(Process server, Process gateway) {
+        this.server = server;
+        this.gateway = gateway;
+    }
+
+    static LocalStack start(LoadTestOptions options) throws IOException, InterruptedException {
+        Path logs = options.report().toAbsolutePath().getParent();
+        Files.createDirectories(logs);
+
+        Process server = launch(options.serverJar(), logs.resolve("server.log"), List.of(
+                "--spring.profiles.active=server,test",
+                "--server.port=" + SERVER_PORT,
+                "--logging.level.ru.practicum.shareit=info",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--shareit.outbox.poll-interval=1s"));
+        Process gateway = null;
+        try {
+            awaitHealthy(server, SERVER_PORT);
+            gateway = launch(options.gatewayJar(), logs.resolve("gateway.log"), List.of(
+                    "--spring.profiles.active=gateway",
+                    "--server.port=" + GATEWAY_PORT,
+                    "--shareit-server.url=http://localhost:" + SERVER_PORT));
+            awaitHealthy(gateway, GATEWAY_PORT);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            destroy(gateway);
+            destroy(server);
+            throw e;
+        }
+        log.info("[LOAD TEST] Server and gateway started, logs in {}", logs);
+        return new LocalStack(server, gateway);
+    }
+
+    @Override
+    public void close() {
+        destroy(gateway);
+        destroy(server);
+    }
+
+    private static Process launch(Path jar, Path logFile, List<String> arguments) throws IOException {
+        if (!Files.exists(jar)) {
+            throw new IllegalStateException("Jar " + jar + " not found, build it with: mvn -DskipTests package");
+        }
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = new ArrayList<>(List.of(java, "-jar", jar.toString()));
+        command.addAll(arguments);
+        log.info("[LOAD TEST] Starting {}", jar);
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+    }
+
+    private static void awaitHealthy(Process process, int port) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Process on port " + port + " exited with code " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // Порт еще не открыт
+            } catch (IOException e) {
+                log.debug("[LOAD TEST] Health check on port {} failed: {}", port, e.getMessage());
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Process on port " + port + " did not become healthy in " + STARTUP_TIMEOUT);
+    }
+
+    private static void destroy(Process process) {
+        if (process == null) {
+            return;
+        }
+        process.destroy();
+        try {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
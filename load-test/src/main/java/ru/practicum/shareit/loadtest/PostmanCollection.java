@@ -0,0 +1,70 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// Запросы коллекции Postman по имени. Хост из коллекции не используется: путь, параметры, заголовки и тело
+// берутся из структурированного описания url, адрес шлюза задается при запуске
+class PostmanCollection {
+    private final Map<String, RequestTemplate> requests;
+
+    private PostmanCollection(Map<String, RequestTemplate> requests) {
+        this.requests = requests;
+    }
+
+    static PostmanCollection read(Path path, ObjectMapper objectMapper) throws IOException {
+        Map<String, RequestTemplate> requests = new HashMap<>();
+        collect(objectMapper.readTree(path.toFile()).path("item"), requests);
+        return new PostmanCollection(requests);
+    }
+
+    RequestTemplate request(String name) {
+        RequestTemplate template = requests.get(name);
+        if (template == null) {
+            throw new NoSuchElementException("Request '" + name + "' not found in Postman collection");
+        }
+        return template;
+    }
+
+    private static void collect(JsonNode items, Map<String, RequestTemplate> requests) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                collect(item.get("item"), requests);
+            } else {
+                // Имена в коллекции уникальны, при повторе остается первый запрос, как при ручном прогоне сверху вниз
+                requests.putIfAbsent(item.path("name").asText(), toTemplate(item));
+            }
+        }
+    }
+
+    private static RequestTemplate toTemplate(JsonNode item) {
+        JsonNode request = item.path("request");
+        JsonNode url = request.path("url");
+
+        StringBuilder path = new StringBuilder();
+        for (JsonNode segment : url.path("path")) {
+            path.append('/').append(segment.asText());
+        }
+        String separator = "?";
+        for (JsonNode parameter : url.path("query")) {
+            path.append(separator).append(parameter.path("key").asText()).append('=').append(parameter.path("value").asText());
+            separator = "&";
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (JsonNode header : request.path("header")) {
+            headers.put(header.path("key").asText(), header.path("value").asText());
+        }
+
+        JsonNode body = request.path("body").path("raw");
+        return new RequestTemplate(item.path("name").asText(), request.path("method").asText(), path.toString(),
+                headers, body.isMissingNode() ? null : body.asText());
+    }
+}
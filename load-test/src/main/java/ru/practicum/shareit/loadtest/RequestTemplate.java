@@ -0,0 +1,41 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Запрос коллекции с переменными Postman {{name}}. Значения переменных сценарий задает сам вместо pre-request скриптов
+record RequestTemplate(String name, String method, String path, Map<String, String> headers, String body) {
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{(\\w+)}}");
+
+    // Ключ статистики: метод и путь без подстановки, чтобы запросы к разным сущностям попадали в одну строку отчета
+    String endpoint() {
+        return method + " " + path;
+    }
+
+    RenderedRequest render(Map<String, String> variables) {
+        Map<String, String> renderedHeaders = new LinkedHashMap<>();
+        headers.forEach((header, value) -> renderedHeaders.put(header, substitute(value, variables)));
+        return new RenderedRequest(endpoint(), method, substitute(path, variables), renderedHeaders,
+                body == null ? null : substitute(body, variables));
+    }
+
+    private String substitute(String text, Map<String, String> variables) {
+        Matcher matcher = VARIABLE.matcher(text);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String value = variables.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalStateException(
+                        "Variable '" + matcher.group(1) + "' is not set for request '" + name + "'");
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    record RenderedRequest(String endpoint, String method, String path, Map<String, String> headers, String body) {
+    }
+}
@@ -0,0 +1,65 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+// Отправка запросов коллекции в шлюз с замером задержки: от отправки до получения всего тела ответа
+class ShareItClient {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    ShareItClient(String baseUrl, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    JsonNode send(RequestTemplate template, Map<String, String> variables) throws IOException, InterruptedException {
+        RequestTemplate.RenderedRequest request = template.render(variables);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + request.path()))
+                .timeout(REQUEST_TIMEOUT)
+                .method(request.method(), request.body() == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(request.body()));
+        request.headers().forEach(builder::header);
+
+        long started = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            recorder.record(request.endpoint(), System.nanoTime() - started, false);
+            throw e;
+        }
+        boolean success = response.statusCode() / 100 == 2;
+        recorder.record(request.endpoint(), System.nanoTime() - started, success);
+
+        if (!success) {
+            throw new ScenarioStepException(template.name(), response.statusCode());
+        }
+        return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+    }
+
+    static class ScenarioStepException extends RuntimeException {
+        ScenarioStepException(String step, int status) {
+            super("Request '" + step + "' failed with status " + status);
+        }
+    }
+}
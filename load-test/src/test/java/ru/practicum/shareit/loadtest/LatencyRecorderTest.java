@@ -0,0 +1,42 @@
+package ru.practicum.shareit.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyRecorderTest {
+
+    @Test
+    void report_shouldComputeNearestRankPercentilesPerEndpoint() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 100; i >= 1; i--) {
+            recorder.record("GET /users", i * 1_000_000L, i != 100);
+        }
+        recorder.record("POST /users", 5_000_000L, true);
+
+        List<LatencyRecorder.EndpointReport> reports = recorder.report(10);
+
+        assertThat(reports).extracting(LatencyRecorder.EndpointReport::endpoint)
+                .containsExactly("GET /users", "POST /users");
+        LatencyRecorder.EndpointReport users = reports.get(0);
+        assertThat(users.count()).isEqualTo(100);
+        assertThat(users.errors()).isEqualTo(1);
+        assertThat(users.throughputPerSecond()).isEqualTo(10.0);
+        assertThat(users.p50Ms()).isEqualTo(50.0);
+        assertThat(users.p95Ms()).isEqualTo(95.0);
+        assertThat(users.p99Ms()).isEqualTo(99.0);
+        assertThat(users.maxMs()).isEqualTo(100.0);
+    }
+
+    @Test
+    void reset_shouldDropWarmupSamples() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record("GET /users", 1_000_000L, true);
+
+        recorder.reset();
+
+        assertThat(recorder.report(1)).isEmpty();
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostmanCollectionTest {
+    private static final Path COLLECTION = Path.of("..", "postman", "sprint.json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void request_shouldRenderPathQueryHeadersAndBodyFromCollection() throws Exception {
+        PostmanCollection collection = PostmanCollection.read(COLLECTION, objectMapper);
+
+        RequestTemplate approve = collection.request("Booking approve");
+        RequestTemplate.RenderedRequest rendered = approve.render(Map.of("bookingId", "7", "userId", "3"));
+
+        assertThat(approve.endpoint()).isEqualTo("PATCH /bookings/{{bookingId}}?approved=true");
+        assertThat(rendered.path()).isEqualTo("/bookings/7?approved=true");
+        assertThat(rendered.headers()).containsEntry("X-Sharer-User-Id", "3");
+        assertThat(rendered.body()).isNull();
+    }
+
+    @Test
+    void request_shouldSubstituteBodyVariables() throws Exception {
+        RequestTemplate createUser = PostmanCollection.read(COLLECTION, objectMapper).request("Create user");
+
+        RequestTemplate.RenderedRequest rendered = createUser.render(
+                Map.of("userName", "Load", "userEmail", "load@test.com"));
+
+        assertThat(objectMapper.readTree(rendered.body()).path("email").asText()).isEqualTo("load@test.com");
+        assertThat(rendered.path()).isEqualTo("/users");
+    }
+
+    @Test
+    void request_whenVariableMissing_shouldFail() throws Exception {
+        RequestTemplate createItem = PostmanCollection.read(COLLECTION, objectMapper).request("Create Item");
+
+        assertThatThrownBy(() -> createItem.render(Map.of("userId", "1")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("itemName");
+    }
+
+    @Test
+    void scenario_shouldFindAllRequestsItReplays() throws Exception {
+        PostmanCollection collection = PostmanCollection.read(COLLECTION, objectMapper);
+
+        new BookingFlowScenario(collection);
+        assertThatThrownBy(() -> collection.request("Unknown request")).isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -1,16 +1,24 @@
 package ru.practicum.shareit.booking.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
+import ru.practicum.shareit.booking.dto.BookingBulkApprovalRequestDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.util.Constants;
+import ru.practicum.shareit.util.LogPayload;
 
 import java.util.Collection;
+import java.util.List;
 
 @RestController
 @Profile("server")
@@ -44,28 +52,56 @@ public class BookingController {
         return response;
     }
 
+    @PatchMapping("/approvals")
+    public List<BookingApprovalResultDto> approveBookings(
+            @RequestHeader(Constants.USER_ID_HEADER) long ownerId,
+            @RequestBody @Valid BookingBulkApprovalRequestDto request) {
+        log.info("[SERVER | CONTROLLER] Received bulk approval of {} bookings by ownerId='{}'",
+                request.getDecisions().size(), ownerId);
+        List<BookingApprovalResultDto> results = bookingService.approveBookings(request.getDecisions(), ownerId);
+        log.debug("[SERVER | CONTROLLER] Bulk approval results for ownerId='{}': {}", ownerId, LogPayload.of(results));
+        return results;
+    }
+
     @GetMapping
     public Collection<BookingResponseDto> getAllBookingsOfRenter(
             @RequestHeader(Constants.USER_ID_HEADER) long renterId,
-            @RequestParam(defaultValue = "ALL") String status) {
-        log.info("[SERVER | CONTROLLER] Request to get bookings for renterId='{}' with bookingStatus='{}'", renterId, status);
-        Collection<BookingResponseDto> bookings = bookingService.getAllByRenterIdAndFindStatus(renterId, BookingFindStatus.valueOf(status));
+            @RequestParam(defaultValue = "ALL") String status,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size) {
+        log.info("[SERVER | CONTROLLER] Request to get bookings for renterId='{}' with bookingStatus='{}', after='{}', size='{}'",
+                renterId, status, after, size);
+        Collection<BookingResponseDto> bookings = bookingService.getAllByRenterIdAndFindStatus(
+                renterId, BookingFindStatus.valueOf(status), BookingPageRequest.of(after, size));
         log.info("[SERVER | CONTROLLER] Fetched {} bookings for renterId='{}' with status='{}'", bookings.size(), renterId, status);
-        log.debug("[SERVER | CONTROLLER] Bookings for renterId='{}' with status='{}': {}", renterId, status, bookings);
+        log.debug("[SERVER | CONTROLLER] Bookings for renterId='{}' with status='{}': {}", renterId, status,
+                LogPayload.of(bookings));
         return bookings;
     }
 
     @GetMapping("/owner")
     public Collection<BookingResponseDto> getAllBookingsOfItemOwner(
             @RequestHeader(Constants.USER_ID_HEADER) long ownerId,
-            @RequestParam(defaultValue = "ALL") String status) {
-        log.info("[SERVER | CONTROLLER] Request to get bookings for ownerId='{}' with bookingStatus='{}'", ownerId, status);
-        Collection<BookingResponseDto> bookings = bookingService.getAllByOwnerIdAndFindStatus(ownerId, BookingFindStatus.valueOf(status));
+            @RequestParam(defaultValue = "ALL") String status,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size) {
+        log.info("[SERVER | CONTROLLER] Request to get bookings for ownerId='{}' with bookingStatus='{}', after='{}', size='{}'",
+                ownerId, status, after, size);
+        Collection<BookingResponseDto> bookings = bookingService.getAllByOwnerIdAndFindStatus(
+                ownerId, BookingFindStatus.valueOf(status), BookingPageRequest.of(after, size));
         log.info("[SERVER | CONTROLLER] Fetched {} bookings for ownerId='{}' with status='{}'", bookings.size(), ownerId, status);
-        log.debug("[SERVER | CONTROLLER] Bookings for ownerId='{}' with status='{}': {}", ownerId, status, bookings);
+        log.debug("[SERVER | CONTROLLER] Bookings for ownerId='{}' with status='{}': {}", ownerId, status,
+                LogPayload.of(bookings));
         return bookings;
     }
 
+    // Поток событий по бронированиям пользователя: и как арендатора, и как владельца вещи
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBookingEvents(@RequestHeader(Constants.USER_ID_HEADER) long userId) {
+        log.info("[SERVER | CONTROLLER] Subscribing userId='{}' to booking status events", userId);
+        return bookingService.subscribeToStatusEvents(userId);
+    }
+
     @GetMapping("/{bookingId}")
     public BookingResponseDto getBooking(
             @PathVariable long bookingId,
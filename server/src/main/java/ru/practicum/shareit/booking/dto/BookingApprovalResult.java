@@ -0,0 +1,12 @@
+package ru.practicum.shareit.booking.dto;
+
+public enum BookingApprovalResult {
+    // Бронирование подтверждено
+    APPROVED,
+    // Бронирование отклонено
+    REJECTED,
+    // Бронирования нет среди бронирований вещей владельца
+    NOT_FOUND,
+    // Решение по бронированию уже было принято раньше
+    NOT_WAITING,
+}
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Value;
+import ru.practicum.shareit.error.InvalidBookingPageRequestException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// Параметры keyset-пагинации: курсор after = "<start>,<id>" последнего бронирования предыдущей страницы
+@Value
+public class BookingPageRequest {
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 1000;
+
+    LocalDateTime afterStart;
+    Long afterId;
+    int size;
+
+    public static BookingPageRequest of(String after, Integer size) {
+        int pageSize = size == null ? DEFAULT_SIZE : size;
+        if (pageSize <= 0 || pageSize > MAX_SIZE) {
+            throw new InvalidBookingPageRequestException(
+                    String.format("Page size should be between 1 and %d, but was %d", MAX_SIZE, pageSize));
+        }
+        if (after == null || after.isBlank()) {
+            return new BookingPageRequest(null, null, pageSize);
+        }
+
+        String[] cursor = after.split(",");
+        if (cursor.length != 2) {
+            throw new InvalidBookingPageRequestException("Cursor should have format '<start>,<id>', but was " + after);
+        }
+        try {
+            return new BookingPageRequest(LocalDateTime.parse(cursor[0].trim()), Long.parseLong(cursor[1].trim()), pageSize);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidBookingPageRequestException("Cursor should have format '<start>,<id>', but was " + after);
+        }
+    }
+
+    public boolean isFirstPage() {
+        return afterStart == null;
+    }
+}
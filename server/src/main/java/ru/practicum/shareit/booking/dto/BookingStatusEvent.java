@@ -0,0 +1,7 @@
+package ru.practicum.shareit.booking.dto;
+
+import ru.practicum.shareit.booking.entity.BookingStatus;
+
+// Бронирование создано (WAITING) или владелец принял решение (APPROVED, REJECTED)
+public record BookingStatusEvent(long bookingId, long itemId, long bookerId, long ownerId, BookingStatus status) {
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.booking.dto;
+
+import ru.practicum.shareit.booking.entity.BookingStatus;
+
+import java.time.LocalDateTime;
+
+// Плоская проекция бронирования для списков: только колонки, нужные BookingResponseDto, без сущностей и контекста
+public record BookingView(
+        long id,
+        LocalDateTime start,
+        LocalDateTime end,
+        BookingStatus status,
+        long bookerId,
+        String bookerName,
+        String bookerEmail,
+        long itemId,
+        String itemName,
+        String itemDescription,
+        Boolean itemAvailable) {
+}
@@ -39,4 +39,9 @@ public class Booking {
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     BookingStatus status;
+
+    // Меняется при каждом изменении строки, в том числе массовыми UPDATE смены статуса
+    @Version
+    @Column(name = "version", nullable = false)
+    Long version;
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package ru.practicum.shareit.booking.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.entity.Booking;
 
 import java.util.Collection;
@@ -15,4 +17,15 @@ public interface BookingMapper {
     BookingResponseDto toResponse(Booking booking);
 
     Collection<BookingResponseDto> toResponseList(List<Booking> bookings);
-}
\ No newline at end of file
+
+    @Mapping(target = "booker.id", source = "bookerId")
+    @Mapping(target = "booker.name", source = "bookerName")
+    @Mapping(target = "booker.email", source = "bookerEmail")
+    @Mapping(target = "item.id", source = "itemId")
+    @Mapping(target = "item.name", source = "itemName")
+    @Mapping(target = "item.description", source = "itemDescription")
+    @Mapping(target = "item.available", source = "itemAvailable")
+    BookingResponseDto toResponse(BookingView view);
+
+    Collection<BookingResponseDto> toResponseListFromViews(List<BookingView> views);
+}
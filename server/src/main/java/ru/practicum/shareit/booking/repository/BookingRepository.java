@@ -1,59 +1,92 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Sort;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import ru.practicum.shareit.booking.entity.BookingStatus;
 import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingStatus;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingViewRepository {
     Optional<Booking> findByIdAndItemOwnerId(long bookingId, long ownerId);
 
-    List<Booking> findByBookerId(long bookerId);
-
-    List<Booking> findByBookerId(long bookerId, Sort sort);
+    boolean existsByBookerId(long bookerId);
 
-    List<Booking> findByBookerIdAndStatus(long bookerId, BookingStatus status, Sort sort);
+    // Явный inner join: выборка начинается с вещей владельца по индексу items(owner_id), а не с обхода всех бронирований
+    @Query("SELECT COUNT(b) > 0 FROM Booking b JOIN b.item i WHERE i.owner.id = :ownerId")
+    boolean existsByItemOwnerId(@Param("ownerId") long ownerId);
 
-    List<Booking> findByBookerIdAndEndBefore(long bookerId, LocalDateTime end, Sort sort);
-
-    List<Booking> findByBookerIdAndStartAfter(long bookerId, LocalDateTime start, Sort sort);
+    Optional<Booking> findByItemIdAndBookerId(long itemId, long bookerId);
 
+    // Для всех вещей владельца за один запрос: последнее завершенное и ближайшее будущее подтвержденные бронирования
     @Query("""
         SELECT b FROM Booking b
-        WHERE b.booker.id = :bookerId
-        AND b.start <= :now
-        AND b.end > :now
+        JOIN FETCH b.booker
+        JOIN FETCH b.item
+        WHERE b.item.owner.id = :ownerId
+        AND b.status = ru.practicum.shareit.booking.entity.BookingStatus.APPROVED
+        AND ((b.end < :now AND b.end = (
+                SELECT MAX(l.end) FROM Booking l
+                WHERE l.item = b.item AND l.status = b.status AND l.end < :now))
+            OR (b.start > :now AND b.start = (
+                SELECT MIN(n.start) FROM Booking n
+                WHERE n.item = b.item AND n.status = b.status AND n.start > :now)))
         """)
-    List<Booking> findCurrentByBookerId(@Param("bookerId") long bookerId,
-                                        @Param("now") LocalDateTime now,
-                                        Sort sort);
+    List<Booking> findLastAndNextApprovedByItemOwnerId(@Param("ownerId") long ownerId,
+                                                       @Param("now") LocalDateTime now);
 
     @Query("""
-        SELECT b FROM Booking b
-        WHERE b.item.owner.id = :ownerId
-        AND b.start <= :now
-        AND b.end > :now
+        SELECT COUNT(b) > 0 FROM Booking b
+        WHERE b.item.id = :itemId
+        AND b.status <> ru.practicum.shareit.booking.entity.BookingStatus.REJECTED
+        AND b.start < :end
+        AND b.end > :start
         """)
-    List<Booking> findCurrentByItemOwnerId(@Param("ownerId") long bookerId,
-                                           @Param("now") LocalDateTime now,
-                                           Sort sort);
-
-    List<Booking> findByItemOwnerIdAndEndBefore(long ownerId, LocalDateTime now, Sort start);
+    boolean existsOverlappingByItemId(@Param("itemId") long itemId,
+                                      @Param("start") LocalDateTime start,
+                                      @Param("end") LocalDateTime end);
 
-    List<Booking> findByItemOwnerIdAndStartAfter(long ownerId, LocalDateTime now, Sort start);
-
-    List<Booking> findByItemOwnerIdAndStatus(long ownerId, BookingStatus bookingStatus, Sort start);
+    // Статусы бронирований из списка, относящихся к вещам владельца. Строки блокируются до конца транзакции,
+    // чтобы итог по каждому id совпадал с тем, что затем изменит массовый UPDATE
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT b.id AS id, b.status AS status, b.item.id AS itemId, b.booker.id AS bookerId FROM Booking b
+        WHERE b.id IN :ids
+        AND b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId)
+        """)
+    List<BookingStatusView> findStatusesForUpdateByIdsAndItemOwnerId(@Param("ids") Collection<Long> ids,
+                                                                     @Param("ownerId") long ownerId);
 
-    List<Booking> findAllByItemOwnerId(long ownerId, Sort start);
+    @Modifying
+    @Query("""
+        UPDATE Booking b SET b.status = :status, b.version = b.version + 1
+        WHERE b.id IN :ids
+        AND b.status = ru.practicum.shareit.booking.entity.BookingStatus.WAITING
+        AND b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId)
+        """)
+    int updateWaitingStatusByIdsAndItemOwnerId(@Param("ids") Collection<Long> ids,
+                                               @Param("ownerId") long ownerId,
+                                               @Param("status") BookingStatus status);
 
-    Optional<Booking> findByItemIdAndBookerId(long itemId, long bookerId);
+    // Переход статуса по принципу compare-and-set: строка меняется, только если статус все еще равен ожидаемому.
+    // Из параллельных переходов одного бронирования срабатывает ровно один, остальные получают 0 измененных строк
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Booking b SET b.status = :newStatus, b.version = b.version + 1
+        WHERE b.id = :bookingId
+        AND b.status = :expectedStatus
+        """)
+    int compareAndSetStatus(@Param("bookingId") long bookingId,
+                            @Param("expectedStatus") BookingStatus expectedStatus,
+                            @Param("newStatus") BookingStatus newStatus);
 
-    Collection<Booking> findByItemOwnerId(long ownerId);
+    @Query("SELECT b.status FROM Booking b WHERE b.id = :bookingId")
+    Optional<BookingStatus> findStatusById(@Param("bookingId") long bookingId);
 }
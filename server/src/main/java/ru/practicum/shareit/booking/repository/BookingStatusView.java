@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking.repository;
+
+import ru.practicum.shareit.booking.entity.BookingStatus;
+
+public interface BookingStatusView {
+    Long getId();
+
+    BookingStatus getStatus();
+
+    Long getItemId();
+
+    Long getBookerId();
+}
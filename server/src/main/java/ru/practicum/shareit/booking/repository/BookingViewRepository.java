@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.repository;
+
+import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
+import ru.practicum.shareit.booking.dto.BookingView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Чтение списков бронирований проекциями: одна выборка с join пользователя и вещи, страница по ключу (start, id)
+public interface BookingViewRepository {
+    List<BookingView> findViewsByBookerId(long bookerId, BookingFindStatus status, LocalDateTime now,
+                                          BookingPageRequest page);
+
+    List<BookingView> findViewsByItemOwnerId(long ownerId, BookingFindStatus status, LocalDateTime now,
+                                             BookingPageRequest page);
+}
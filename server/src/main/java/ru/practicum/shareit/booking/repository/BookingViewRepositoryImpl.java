@@ -0,0 +1,74 @@
+package ru.practicum.shareit.booking.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+class BookingViewRepositoryImpl implements BookingViewRepository {
+    private static final String SELECT_VIEW = """
+        SELECT new ru.practicum.shareit.booking.dto.BookingView(
+            b.id, b.start, b.end, b.status,
+            u.id, u.name, u.email,
+            i.id, i.name, i.description, i.available)
+        FROM Booking b
+        JOIN b.booker u
+        JOIN b.item i
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookingView> findViewsByBookerId(long bookerId, BookingFindStatus status, LocalDateTime now,
+                                                 BookingPageRequest page) {
+        return findViews("u.id = :userId", bookerId, status, now, page);
+    }
+
+    @Override
+    public List<BookingView> findViewsByItemOwnerId(long ownerId, BookingFindStatus status, LocalDateTime now,
+                                                    BookingPageRequest page) {
+        return findViews("i.owner.id = :userId", ownerId, status, now, page);
+    }
+
+    private List<BookingView> findViews(String userCondition, long userId, BookingFindStatus status,
+                                        LocalDateTime now, BookingPageRequest page) {
+        StringBuilder jpql = new StringBuilder(SELECT_VIEW)
+                .append("WHERE ").append(userCondition);
+        switch (status) {
+            case CURRENT -> jpql.append(" AND b.start <= :now AND b.end > :now");
+            case PAST -> jpql.append(" AND b.end < :now");
+            case FUTURE -> jpql.append(" AND b.start > :now");
+            case WAITING, REJECTED -> jpql.append(" AND b.status = :status");
+            case ALL -> {
+            }
+        }
+        // Продолжение после курсора: строки строго "старше" последней строки предыдущей страницы
+        if (!page.isFirstPage()) {
+            jpql.append(" AND (b.start < :afterStart OR (b.start = :afterStart AND b.id < :afterId))");
+        }
+        jpql.append(" ORDER BY b.start DESC, b.id DESC");
+
+        TypedQuery<BookingView> query = entityManager.createQuery(jpql.toString(), BookingView.class)
+                .setParameter("userId", userId)
+                .setMaxResults(page.getSize());
+        switch (status) {
+            case CURRENT, PAST, FUTURE -> query.setParameter("now", now);
+            case WAITING -> query.setParameter("status", BookingStatus.WAITING);
+            case REJECTED -> query.setParameter("status", BookingStatus.REJECTED);
+            case ALL -> {
+            }
+        }
+        if (!page.isFirstPage()) {
+            query.setParameter("afterStart", page.getAfterStart())
+                    .setParameter("afterId", page.getAfterId());
+        }
+        return query.getResultList();
+    }
+}
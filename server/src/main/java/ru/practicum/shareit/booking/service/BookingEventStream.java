@@ -0,0 +1,117 @@
+package ru.practicum.shareit.booking.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.booking.dto.BookingStatusEvent;
+import ru.practicum.shareit.config.BookingEventsProperties;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Подписки пользователей на изменения их бронирований. События приходят только после коммита транзакции,
+// поэтому клиент не увидит статус, который затем откатился, и может сразу перечитать бронирование из БД
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(BookingEventsProperties.class)
+public class BookingEventStream {
+    static final String EVENT_NAME = "booking-status";
+
+    private final BookingEventsProperties properties;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("booking-events-heartbeat").daemon().factory());
+
+    @PostConstruct
+    void startHeartbeat() {
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeat.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    public SseEmitter subscribe(long userId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        // Добавление под блокировкой ключа: параллельная отписка последнего потока не удалит набор с новой подпиской
+        Set<SseEmitter> emitters = subscribers.compute(userId, (key, current) -> {
+            Set<SseEmitter> updated = current == null ? new CopyOnWriteArraySet<>() : current;
+            updated.add(emitter);
+            return updated;
+        });
+        emitter.onCompletion(() -> unsubscribe(userId, emitter));
+        emitter.onTimeout(() -> unsubscribe(userId, emitter));
+        emitter.onError(error -> unsubscribe(userId, emitter));
+        // Первый комментарий отправляет заголовки ответа сразу, не дожидаясь первого события или heartbeat
+        try {
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException e) {
+            unsubscribe(userId, emitter);
+            emitter.completeWithError(e);
+        }
+        log.debug("[SERVER | BOOKING EVENTS] User with id = {} subscribed, open streams: {}", userId, emitters.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onBookingStatusChanged(BookingStatusEvent event) {
+        log.trace("[SERVER | BOOKING EVENTS] Publishing {}", event);
+        send(event.bookerId(), event);
+        if (event.ownerId() != event.bookerId()) {
+            send(event.ownerId(), event);
+        }
+    }
+
+    int subscriberCount(long userId) {
+        return subscribers.getOrDefault(userId, Set.of()).size();
+    }
+
+    private void send(long userId, BookingStatusEvent event) {
+        for (SseEmitter emitter : subscribers.getOrDefault(userId, Set.of())) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.bookingId()))
+                        .name(EVENT_NAME)
+                        .data(event));
+            } catch (IOException | IllegalStateException e) {
+                // Клиент отключился: подписка удаляется, остальные получатели события не затрагиваются
+                log.debug("[SERVER | BOOKING EVENTS] Dropping stream of user with id = {}: {}", userId, e.getMessage());
+                unsubscribe(userId, emitter);
+            }
+        }
+    }
+
+    private void sendHeartbeat() {
+        subscribers.forEach((userId, emitters) -> emitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(userId, emitter);
+            }
+        }));
+    }
+
+    private void unsubscribe(long userId, SseEmitter emitter) {
+        subscribers.computeIfPresent(userId, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -1,19 +1,30 @@
 package ru.practicum.shareit.booking.service;
 
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface BookingService {
     BookingResponseDto createBooking(BookingRequestDto bookingForCreate, long bookerId);
 
     BookingResponseDto approveBooking(long bookingId, long ownerId, boolean isApproved);
 
-    Collection<BookingResponseDto> getAllByRenterIdAndFindStatus(long bookerId, BookingFindStatus status);
+    List<BookingApprovalResultDto> approveBookings(List<BookingApprovalDto> decisions, long ownerId);
 
-    Collection<BookingResponseDto> getAllByOwnerIdAndFindStatus(long bookerId, BookingFindStatus status);
+    Collection<BookingResponseDto> getAllByRenterIdAndFindStatus(long bookerId, BookingFindStatus status,
+                                                                 BookingPageRequest page);
+
+    Collection<BookingResponseDto> getAllByOwnerIdAndFindStatus(long bookerId, BookingFindStatus status,
+                                                                BookingPageRequest page);
 
     BookingResponseDto getBookingByIdAndUserId(long bookingId, long userId);
+
+    SseEmitter subscribeToStatusEvents(long userId);
 }
\ No newline at end of file
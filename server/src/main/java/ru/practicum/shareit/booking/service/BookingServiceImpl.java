@@ -4,35 +4,56 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.booking.dto.BookingApprovalResult;
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
+import ru.practicum.shareit.booking.dto.BookingStatusEvent;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.entity.BookingStatus;
 import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.BookingStatusView;
 import ru.practicum.shareit.error.*;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.outbox.dto.OutboxEventDraft;
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+import ru.practicum.shareit.outbox.service.OutboxWriter;
 import ru.practicum.shareit.user.entity.User;
-import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.RequestUserResolver;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 @RequiredArgsConstructor
 @Slf4j
 public class BookingServiceImpl implements BookingService {
+    static final int MAX_BULK_APPROVAL_SIZE = 1000;
+
     BookingMapper bookingMapper;
     BookingRepository bookingRepository;
     ItemRepository itemRepository;
-    UserRepository userRepository;
+    RequestUserResolver userResolver;
+    ApplicationEventPublisher eventPublisher;
+    BookingEventStream bookingEventStream;
+    OutboxWriter outboxWriter;
 
     @Override
     @Transactional
@@ -40,23 +61,32 @@ public class BookingServiceImpl implements BookingService {
         log.debug("[SERVER | SERVICE] Booking create by userId='{}', data:{}", bookerId, bookingPostDto);
 
         long itemId = bookingPostDto.getItemId();
-        Item item = itemRepository.findById(itemId)
+        Item item = itemRepository.findByIdForUpdate(itemId)
                 .orElseThrow(() -> new ItemNotFoundException(itemId));
 
-        User booker = userRepository.findById(bookerId)
-                .orElseThrow(() -> new UserNotFoundException(bookerId));
+        User booker = userResolver.getUser(bookerId);
 
         if (!item.getAvailable()) {
             throw new UnavailableItemForBookingException(itemId);
         }
 
+        // Проверка пересечения с уже существующими (не отклоненными) бронированиями вещи
+        LocalDateTime start = bookingPostDto.getStart();
+        LocalDateTime end = bookingPostDto.getEnd();
+        if (bookingRepository.existsOverlappingByItemId(itemId, start, end)) {
+            throw new BookingDatesOverlapException(itemId, start, end);
+        }
+
         Booking bookingToSave = bookingMapper.toBooking(bookingPostDto);
         bookingToSave.setBooker(booker);
         bookingToSave.setItem(item);
         bookingToSave.setStatus(BookingStatus.WAITING);
         log.debug("[SERVER | SERVICE] Booking is valid and prepared for save: {}", bookingToSave);
 
-        return bookingMapper.toResponse(bookingRepository.save(bookingToSave));
+        Booking savedBooking = bookingRepository.save(bookingToSave);
+        publishStatusEvent(new BookingStatusEvent(savedBooking.getId(), itemId, bookerId,
+                item.getOwner().getId(), BookingStatus.WAITING));
+        return bookingMapper.toResponse(savedBooking);
     }
 
     @Override
@@ -73,78 +103,127 @@ public class BookingServiceImpl implements BookingService {
             throw new InvalidBookingStatusForApprovingException(currentBookingStatus);
         }
 
-        // Обновление статуса в зависимости от ответа владельца
+        // UPDATE ниже очищает контекст персистентности и отсоединяет сущность: ответ и данные события
+        // берутся из нее заранее, пока она управляемая, а новый статус известен без повторного чтения
+        BookingResponseDto response = bookingMapper.toResponse(foundBooking);
+        long itemId = foundBooking.getItem().getId();
+        long bookerId = foundBooking.getBooker().getId();
+
+        // Обновление статуса в зависимости от ответа владельца без блокировки строки: если параллельный запрос
+        // успел сменить статус между чтением и записью, UPDATE не затронет строку
         BookingStatus newStatus = isApproved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
-        foundBooking.setStatus(newStatus);
+        if (bookingRepository.compareAndSetStatus(bookingId, BookingStatus.WAITING, newStatus) == 0) {
+            BookingStatus actualStatus = bookingRepository.findStatusById(bookingId)
+                    .orElseThrow(() -> new BookingNotFoundException(bookingId));
+            throw new InvalidBookingStatusForApprovingException(actualStatus);
+        }
+        response.setStatus(newStatus);
+        publishStatusEvent(new BookingStatusEvent(bookingId, itemId, bookerId, ownerId, newStatus));
 
         log.debug("Booking approval status updated to: {}", newStatus);
-        return bookingMapper.toResponse(bookingRepository.save(foundBooking));
+        return response;
     }
 
     @Override
     @Transactional
-    public Collection<BookingResponseDto> getAllByRenterIdAndFindStatus(long bookerId, BookingFindStatus status) {
-        log.debug("Getting bookings by bookerId='{}' with status='{}'", bookerId, status);
+    public List<BookingApprovalResultDto> approveBookings(List<BookingApprovalDto> decisions, long ownerId) {
+        log.debug("[SERVER | SERVICE] Bulk approval of {} bookings by owner ID {}", decisions.size(), ownerId);
+        if (decisions.size() > MAX_BULK_APPROVAL_SIZE) {
+            throw new InvalidBookingApprovalRequestException(String.format(
+                    "Bulk approval accepts at most %d decisions, but was %d", MAX_BULK_APPROVAL_SIZE, decisions.size()));
+        }
 
-        if (!userRepository.existsById(bookerId)) {
-            throw new UserNotFoundException(bookerId);
+        // Каждое бронирование в пакете встречается один раз: повтор id - ошибка запроса, даже с тем же решением
+        Map<Long, Boolean> decisionByBookingId = new LinkedHashMap<>();
+        for (BookingApprovalDto decision : decisions) {
+            if (decisionByBookingId.putIfAbsent(decision.getBookingId(), decision.getApproved()) != null) {
+                throw new InvalidBookingApprovalRequestException(
+                        "Duplicate decision for booking with id = " + decision.getBookingId());
+            }
+        }
+        if (decisionByBookingId.isEmpty()) {
+            return List.of();
         }
 
-        if (bookingRepository.findByBookerId(bookerId).isEmpty()) {
+        Map<Long, BookingStatusView> currentBookings = bookingRepository
+                .findStatusesForUpdateByIdsAndItemOwnerId(decisionByBookingId.keySet(), ownerId).stream()
+                .collect(Collectors.toMap(BookingStatusView::getId, Function.identity()));
+
+        List<Long> approvedIds = new ArrayList<>();
+        List<Long> rejectedIds = new ArrayList<>();
+        List<BookingApprovalResultDto> results = new ArrayList<>(decisionByBookingId.size());
+        decisionByBookingId.forEach((bookingId, isApproved) -> {
+            BookingStatusView current = currentBookings.get(bookingId);
+            if (current == null) {
+                results.add(new BookingApprovalResultDto(bookingId, BookingApprovalResult.NOT_FOUND, null));
+            } else if (current.getStatus() != BookingStatus.WAITING) {
+                results.add(new BookingApprovalResultDto(bookingId, BookingApprovalResult.NOT_WAITING, current.getStatus()));
+            } else if (isApproved) {
+                approvedIds.add(bookingId);
+                results.add(new BookingApprovalResultDto(bookingId, BookingApprovalResult.APPROVED, BookingStatus.APPROVED));
+            } else {
+                rejectedIds.add(bookingId);
+                results.add(new BookingApprovalResultDto(bookingId, BookingApprovalResult.REJECTED, BookingStatus.REJECTED));
+            }
+        });
+
+        // Не больше двух UPDATE на весь пакет, независимо от количества бронирований
+        if (!approvedIds.isEmpty()) {
+            bookingRepository.updateWaitingStatusByIdsAndItemOwnerId(approvedIds, ownerId, BookingStatus.APPROVED);
+        }
+        if (!rejectedIds.isEmpty()) {
+            bookingRepository.updateWaitingStatusByIdsAndItemOwnerId(rejectedIds, ownerId, BookingStatus.REJECTED);
+        }
+        List<OutboxEventDraft> outboxEvents = new ArrayList<>(approvedIds.size() + rejectedIds.size());
+        publishStatusEvents(approvedIds, currentBookings, ownerId, BookingStatus.APPROVED, outboxEvents);
+        publishStatusEvents(rejectedIds, currentBookings, ownerId, BookingStatus.REJECTED, outboxEvents);
+        outboxWriter.appendAll(outboxEvents);
+
+        log.debug("[SERVER | SERVICE] Bulk approval by owner ID {}: approved {}, rejected {}, skipped {}",
+                ownerId, approvedIds.size(), rejectedIds.size(),
+                results.size() - approvedIds.size() - rejectedIds.size());
+        return results;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<BookingResponseDto> getAllByRenterIdAndFindStatus(long bookerId, BookingFindStatus status,
+                                                                        BookingPageRequest page) {
+        log.debug("Getting bookings by bookerId='{}' with status='{}', page={}", bookerId, status, page);
+
+        userResolver.requireExists(bookerId);
+
+        if (!bookingRepository.existsByBookerId(bookerId)) {
             throw new UnauthorizedUserGetBookingsException(bookerId);
         }
 
-        List<Booking> bookings = switch (status) {
-            case CURRENT -> bookingRepository
-                    .findCurrentByBookerId(bookerId, LocalDateTime.now(), Sort.by("start").descending());
-            case PAST -> bookingRepository
-                    .findByBookerIdAndEndBefore(bookerId, LocalDateTime.now(), Sort.by("start").descending());
-            case FUTURE -> bookingRepository
-                    .findByBookerIdAndStartAfter(bookerId, LocalDateTime.now(), Sort.by("start").descending());
-            case WAITING -> bookingRepository
-                    .findByBookerIdAndStatus(bookerId, BookingStatus.WAITING, Sort.by("start").descending());
-            case REJECTED -> bookingRepository
-                    .findByBookerIdAndStatus(bookerId, BookingStatus.REJECTED, Sort.by("start").descending());
-            default -> bookingRepository
-                    .findByBookerId(bookerId, Sort.by("start").descending());
-        };
+        // Списки читаются плоской проекцией: без загрузки сущностей бронирования, пользователя и вещи
+        List<BookingView> bookings = bookingRepository.findViewsByBookerId(bookerId, status, LocalDateTime.now(), page);
 
         log.debug("Retrieved {} bookings for renter ID {}", bookings.size(), bookerId);
-        return bookingMapper.toResponseList(bookings);
+        return bookingMapper.toResponseListFromViews(bookings);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
-    public Collection<BookingResponseDto> getAllByOwnerIdAndFindStatus(long ownerId, BookingFindStatus status) {
-        log.debug("Fetching bookings for item owner ID {} with status {}", ownerId, status);
+    public Collection<BookingResponseDto> getAllByOwnerIdAndFindStatus(long ownerId, BookingFindStatus status,
+                                                                       BookingPageRequest page) {
+        log.debug("Fetching bookings for item owner ID {} with status {}, page={}", ownerId, status, page);
 
-        if (!userRepository.existsById(ownerId)) {
-            throw new UserNotFoundException(ownerId);
-        }
+        userResolver.requireExists(ownerId);
 
-        if (bookingRepository.findByItemOwnerId(ownerId).isEmpty()) {
+        if (!bookingRepository.existsByItemOwnerId(ownerId)) {
             throw new UnauthorizedUserGetBookingsException(ownerId);
         }
 
-        List<Booking> bookings = switch (status) {
-            case CURRENT -> bookingRepository.findCurrentByItemOwnerId(
-                    ownerId, LocalDateTime.now(), Sort.by("start").descending());
-            case PAST -> bookingRepository.findByItemOwnerIdAndEndBefore(
-                    ownerId, LocalDateTime.now(), Sort.by("start").descending());
-            case FUTURE -> bookingRepository.findByItemOwnerIdAndStartAfter(
-                    ownerId, LocalDateTime.now(), Sort.by("start").descending());
-            case WAITING -> bookingRepository.findByItemOwnerIdAndStatus(
-                    ownerId, BookingStatus.WAITING, Sort.by("start").descending());
-            case REJECTED -> bookingRepository.findByItemOwnerIdAndStatus(
-                    ownerId, BookingStatus.REJECTED, Sort.by("start").descending());
-            case ALL -> bookingRepository.findAllByItemOwnerId(ownerId, Sort.by("start").descending());
-        };
+        List<BookingView> bookings = bookingRepository.findViewsByItemOwnerId(ownerId, status, LocalDateTime.now(), page);
+
         log.debug("Retrieved {} bookings for item owner ID {}", bookings.size(), ownerId);
-        return bookingMapper.toResponseList(bookings);
+        return bookingMapper.toResponseListFromViews(bookings);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public BookingResponseDto getBookingByIdAndUserId(long bookingId, long userId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new BookingNotFoundException(bookingId));
@@ -153,4 +232,37 @@ public class BookingServiceImpl implements BookingService {
         log.debug("Successfully retrieved booking by booking ID {} AND user ID {}", bookingId, userId);
         return bookingMapper.toResponse(booking);
     }
-}
\ No newline at end of file
+
+    @Override
+    public SseEmitter subscribeToStatusEvents(long userId) {
+        userResolver.requireExists(userId);
+        return bookingEventStream.subscribe(userId);
+    }
+
+    // События уходят подписчикам только после коммита, при откате транзакции они отбрасываются.
+    // В outbox события всего пакета пишутся одним INSERT
+    private void publishStatusEvents(List<Long> bookingIds, Map<Long, BookingStatusView> bookings, long ownerId,
+                                     BookingStatus status, List<OutboxEventDraft> outboxEvents) {
+        for (Long bookingId : bookingIds) {
+            BookingStatusView booking = bookings.get(bookingId);
+            BookingStatusEvent event = new BookingStatusEvent(bookingId, booking.getItemId(), booking.getBookerId(),
+                    ownerId, status);
+            eventPublisher.publishEvent(event);
+            outboxEvents.add(new OutboxEventDraft(outboxEventType(status), bookingId, event));
+        }
+    }
+
+    // Подписчикам SSE - после коммита, во внешние системы - через outbox в той же транзакции
+    private void publishStatusEvent(BookingStatusEvent event) {
+        eventPublisher.publishEvent(event);
+        outboxWriter.append(outboxEventType(event.status()), event.bookingId(), event);
+    }
+
+    private static OutboxEventType outboxEventType(BookingStatus status) {
+        return switch (status) {
+            case APPROVED -> OutboxEventType.BOOKING_APPROVED;
+            case REJECTED -> OutboxEventType.BOOKING_REJECTED;
+            default -> OutboxEventType.BOOKING_CREATED;
+        };
+    }
+}
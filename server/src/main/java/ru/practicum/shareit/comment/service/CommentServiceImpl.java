@@ -17,11 +17,12 @@ import ru.practicum.shareit.comment.repository.CommentRepository;
 import ru.practicum.shareit.error.BookingNotFoundException;
 import ru.practicum.shareit.error.ItemNotFoundException;
 import ru.practicum.shareit.error.UnauthorizedCommentCreateException;
-import ru.practicum.shareit.error.UserNotFoundException;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+import ru.practicum.shareit.outbox.service.OutboxWriter;
 import ru.practicum.shareit.user.entity.User;
-import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.RequestUserResolver;
 
 import java.time.LocalDateTime;
 
@@ -34,7 +35,8 @@ public class CommentServiceImpl implements CommentService {
     ItemRepository itemRepository;
     CommentRepository commentRepository;
     CommentMapper commentMapper;
-    UserRepository userRepository;
+    RequestUserResolver userResolver;
+    OutboxWriter outboxWriter;
 
     @Transactional
     @Override
@@ -43,8 +45,7 @@ public class CommentServiceImpl implements CommentService {
 
         log.debug("[SERVER | SERVICE] Start creating comment for itemId: {}, authorId: {}", itemId, authorId);
         // Проверяем автора
-        User author = userRepository.findById(authorId)
-                .orElseThrow(() -> new UserNotFoundException(authorId));
+        User author = userResolver.getUser(authorId);
         log.trace("[SERVER | SERVICE] Author of comment exists: {}", author);
 
         // Проверяем предмет
@@ -81,6 +82,7 @@ public class CommentServiceImpl implements CommentService {
         // Возвращаем DTO
         CommentResponseDto responseDto = commentMapper.toResponse(savedComment);
         log.debug("Response DTO: {}", responseDto);
+        outboxWriter.append(OutboxEventType.COMMENT_CREATED, savedComment.getId(), responseDto);
 
         log.info("Comment creation completed successfully for itemId: {}, authorId: {}", itemId, authorId);
         return responseDto;
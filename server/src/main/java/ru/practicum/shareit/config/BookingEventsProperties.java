@@ -0,0 +1,18 @@
+package ru.practicum.shareit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Параметры SSE-потока изменений статусов бронирований
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.booking.events")
+public class BookingEventsProperties {
+    // Сколько живет одна подписка, после этого клиент переподключается
+    private Duration timeout = Duration.ofMinutes(30);
+    // Период пустых комментариев в потоке: меньше таймаута чтения у шлюза и прокси, иначе молчащий поток оборвется
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+}
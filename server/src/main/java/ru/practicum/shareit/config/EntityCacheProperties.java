@@ -0,0 +1,32 @@
+package ru.practicum.shareit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Размеры и время жизни регионов кэша второго уровня Hibernate
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.cache")
+public class EntityCacheProperties {
+    private Region user = new Region(10_000, Duration.ofMinutes(10));
+    private Region item = new Region(50_000, Duration.ofMinutes(10));
+    private Region query = new Region(10_000, Duration.ofMinutes(1));
+
+    @Getter
+    @Setter
+    public static class Region {
+        private long maxSize;
+        private Duration timeToLive;
+
+        public Region() {
+        }
+
+        public Region(long maxSize, Duration timeToLive) {
+            this.maxSize = maxSize;
+            this.timeToLive = timeToLive;
+        }
+    }
+}
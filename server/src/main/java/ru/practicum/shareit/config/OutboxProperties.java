@@ -0,0 +1,25 @@
+package ru.practicum.shareit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// Ретрансляция событий из таблицы outbox_events в приемник shareit.outbox.sink (in-memory, file, broker)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.outbox")
+public class OutboxProperties {
+    // Сколько событий забирается и удаляется одной транзакцией ретранслятора
+    private int batchSize = 500;
+    // Пауза между опросами таблицы, когда она опустела
+    private Duration pollInterval = Duration.ofSeconds(1);
+    // Файл приемника file: события дописываются построчно в JSON
+    private Path filePath = Path.of("outbox-events.jsonl");
+    // Емкость очереди каждого топика приемника broker и буфера приемника in-memory
+    private int capacity = 10_000;
+    // Не запускаться с приемником, который теряет события при перезапуске (in-memory, broker)
+    private boolean requireDurableSink = false;
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Маршрутизация чтения на реплики. Пулы получают имена shareit-primary и shareit-replica-N,
+// по которым их различают метрики hikaricp.connections.*
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "shareit.datasource", name = "read-routing", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+    static final String PRIMARY_POOL = "shareit-primary";
+    static final String REPLICA_POOL_PREFIX = "shareit-replica-";
+
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties dataSourceProperties,
+                                                 ReadReplicaProperties replicaProperties,
+                                                 Environment environment) {
+        if (replicaProperties.getReplicas().isEmpty()) {
+            throw new IllegalStateException("shareit.datasource.read-routing is enabled, but no replicas are configured");
+        }
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        // Настройки spring.datasource.hikari.* продолжают действовать на основной пул
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(PRIMARY_POOL);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<ReadReplicaProperties.Replica> replicaSettings = replicaProperties.getReplicas();
+        for (int i = 0; i < replicaSettings.size(); i++) {
+            ReadReplicaProperties.Replica settings = replicaSettings.get(i);
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(settings.getUrl())
+                    .username(settings.getUsername())
+                    .password(settings.getPassword())
+                    .build();
+            replica.setPoolName(REPLICA_POOL_PREFIX + i);
+            replica.setMaximumPoolSize(settings.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas);
+    }
+
+    // Основной пул Spring Boot подключает к метрикам сам, пулы реплик спрятаны за маршрутизатором и подключаются здесь
+    @Bean
+    public MeterBinder replicaPoolMetrics(ReadWriteRoutingDataSource dataSource) {
+        return registry -> dataSource.getReplicas()
+                .forEach(replica -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Реплики только для чтения: на них уходят транзакции @Transactional(readOnly = true)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.datasource")
+public class ReadReplicaProperties {
+    private boolean readRouting;
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Соединение берется лениво, когда флаг readOnly транзакции уже выставлен: чтение уходит на реплики, запись на основную БД
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas) {
+        super(primary);
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        setReadOnlyDataSource(replicas.size() == 1 ? replicas.getFirst() : new RoundRobinDataSource(replicas));
+    }
+
+    public List<HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    // Распределяет читающие транзакции по репликам по кругу
+    private static class RoundRobinDataSource extends AbstractRoutingDataSource {
+        private final AtomicInteger counter = new AtomicInteger();
+        private final int size;
+
+        RoundRobinDataSource(List<HikariDataSource> replicas) {
+            Map<Object, Object> targets = new HashMap<>();
+            for (int i = 0; i < replicas.size(); i++) {
+                targets.put(i, replicas.get(i));
+            }
+            this.size = replicas.size();
+            setTargetDataSources(targets);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return Math.floorMod(counter.getAndIncrement(), size);
+        }
+    }
+}
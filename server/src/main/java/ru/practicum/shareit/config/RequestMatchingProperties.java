@@ -0,0 +1,16 @@
+package ru.practicum.shareit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Пороги сопоставления новых вещей с открытыми запросами
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.matching")
+public class RequestMatchingProperties {
+    // Доля слов запроса, которые должны встретиться в названии или описании вещи
+    private double minScore = 0.5;
+    // Сколько лучших запросов-кандидатов сохраняется для одной вещи
+    private int maxMatchesPerItem = 20;
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+
+// Таймер на каждый публичный метод сервисов (@Service) и распределение размера результата для методов,
+// возвращающих коллекцию. Совет стоит снаружи транзакционного, поэтому в замер входит и коммит.
+// Вместе с таймерами репозиториев (spring.data.repository.invocations) и http.server.requests позволяет
+// разложить задержку эндпоинта на запросы к БД, маппинг в сервисе и сериализацию ответа
+@Configuration(proxyBeanMethods = false)
+public class ServiceMetricsConfig {
+    static final String INVOCATIONS = "shareit.service.invocations";
+    static final String RESULT_SIZE = "shareit.service.result.size";
+
+    // Советник инфраструктурный: его подхватывает тот же авто-прокси, что и @Transactional.
+    // Реестр берется лениво, чтобы советник не заставлял создавать метрики раньше остальных бинов
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new ServicePointcut(),
+                serviceMetricsInterceptor(meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    private static MethodInterceptor serviceMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return invocation -> {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return invocation.proceed();
+            }
+            String serviceName = AopUtils.getTargetClass(invocation.getThis()).getSimpleName();
+            String methodName = invocation.getMethod().getName();
+            String exception = "none";
+            Timer.Sample sample = Timer.start(registry);
+            try {
+                Object result = invocation.proceed();
+                if (result instanceof Collection<?> collection) {
+                    DistributionSummary.builder(RESULT_SIZE)
+                            .description("Number of elements returned by a service method")
+                            .tag("class", serviceName)
+                            .tag("method", methodName)
+                            .register(registry)
+                            .record(collection.size());
+                }
+                return result;
+            } catch (Throwable e) {
+                exception = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                sample.stop(Timer.builder(INVOCATIONS)
+                        .description("Service method invocations")
+                        .tag("class", serviceName)
+                        .tag("method", methodName)
+                        .tag("exception", exception)
+                        .register(registry));
+            }
+        };
+    }
+
+    private static class ServicePointcut extends StaticMethodMatcherPointcut {
+        ServicePointcut() {
+            setClassFilter(new AnnotationClassFilter(Service.class, true));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+        }
+    }
+}
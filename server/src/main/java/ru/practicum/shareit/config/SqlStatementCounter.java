@@ -0,0 +1,92 @@
+package ru.practicum.shareit.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.stream.Collectors;
+
+// Считает SQL, который Hibernate готовит в текущем потоке, пока открыт хотя бы один замер.
+// Замеры вкладываются (HTTP-запрос -> вызов сервиса), оператор засчитывается каждому открытому.
+// Без открытого замера стоимость - одно чтение ThreadLocal на оператор
+public class SqlStatementCounter implements StatementInspector {
+    private static final String APPLICATION_PACKAGE = "ru.practicum.shareit.";
+    private static final String CONFIG_PACKAGE = "ru.practicum.shareit.config.";
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    // Замер с порогом: на операторе, который превысил порог, запоминается путь вызова в коде приложения
+    public static Scope open(String name, int threshold) {
+        Scope scope = new Scope(name, threshold, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.record();
+        }
+        return sql;
+    }
+
+    // Кадры стека приложения от места выполнения оператора к точке входа, без прокси и инфраструктуры
+    // из config (счетчик, советники, фильтры)
+    private static String captureCallPath() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE))
+                .filter(frame -> !frame.getClassName().startsWith(CONFIG_PACKAGE))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- ")));
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final String name;
+        private final int threshold;
+        private final Scope parent;
+        private int count;
+        private String callPath;
+
+        private Scope(String name, int threshold, Scope parent) {
+            this.name = name;
+            this.threshold = threshold;
+            this.parent = parent;
+        }
+
+        private void record() {
+            count++;
+            if (count == threshold + 1) {
+                callPath = captureCallPath();
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public boolean isExceeded() {
+            return count > threshold;
+        }
+
+        // Путь вызова до оператора, превысившего порог, или null, если порог не превышен
+        public String getCallPath() {
+            return callPath;
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
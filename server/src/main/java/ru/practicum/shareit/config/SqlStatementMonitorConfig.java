@@ -0,0 +1,65 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Счетчик SQL подключается всегда: без открытого замера он ничего не делает. Замеры открывают
+// фильтр HTTP-запросов (shareit.sql-monitor.enabled) и тестовое расширение SqlStatementBudgetExtension
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(SqlStatementMonitorProperties.class)
+public class SqlStatementMonitorConfig {
+
+    // Тесты, которые задают свой statement_inspector для записи SQL, остаются со своим
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return hibernateProperties -> hibernateProperties.putIfAbsent(
+                AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "shareit.sql-monitor", name = "enabled", havingValue = "true")
+    public OncePerRequestFilter sqlStatementMonitorFilter(SqlStatementMonitorProperties properties,
+                                                          ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request,
+                                            HttpServletResponse response,
+                                            FilterChain filterChain) throws ServletException, IOException {
+                if (ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+                String name = request.getMethod() + " " + request.getRequestURI();
+                try (SqlStatementCounter.Scope scope = SqlStatementCounter.open(name, properties.getThreshold())) {
+                    filterChain.doFilter(request, response);
+                    if (scope.isExceeded()) {
+                        log.warn("[SERVER | SQL] {} issued {} SQL statements (threshold {}), statement {} at: {}",
+                                name, scope.getCount(), scope.getThreshold(), scope.getThreshold() + 1,
+                                scope.getCallPath());
+                        meterRegistry.ifAvailable(registry -> Counter.builder("shareit.sql.threshold.exceeded")
+                                .description("Sampled requests that issued more SQL statements than the threshold")
+                                .register(registry)
+                                .increment());
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Предупреждения о запросах, выполнивших слишком много SQL (N+1 на ленивых связях)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.sql-monitor")
+public class SqlStatementMonitorProperties {
+    private boolean enabled = false;
+    // Сколько операторов на один HTTP-запрос считается нормой
+    private int threshold = 20;
+    // Доля запросов, для которых ведется подсчет: 1.0 - все
+    private double sampleRate = 0.05;
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.error;
+
+import java.time.LocalDateTime;
+
+public class BookingDatesOverlapException extends RuntimeException {
+    public BookingDatesOverlapException(long itemId, LocalDateTime start, LocalDateTime end) {
+        super(String.format(
+                "Item with id='%d' is already booked for period start='%s', end='%s'", itemId, start, end)
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.error;
+
+public class InvalidBookingApprovalRequestException extends RuntimeException {
+    public InvalidBookingApprovalRequestException(String message) {
+        super(message);
+    }
+}
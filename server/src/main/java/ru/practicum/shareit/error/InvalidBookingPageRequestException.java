@@ -0,0 +1,7 @@
+package ru.practicum.shareit.error;
+
+public class InvalidBookingPageRequestException extends RuntimeException {
+    public InvalidBookingPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.error;
+
+public class InvalidItemRequestPageRequestException extends RuntimeException {
+    public InvalidItemRequestPageRequestException(String message) {
+        super(message);
+    }
+}
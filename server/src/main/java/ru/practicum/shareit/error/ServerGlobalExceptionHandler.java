@@ -1,25 +1,47 @@
 package ru.practicum.shareit.error;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestControllerAdvice
 @Slf4j
+@RequiredArgsConstructor
 public class ServerGlobalExceptionHandler {
+    // В срезе @WebMvcTest реестра метрик нет, поэтому он берется через ObjectProvider
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
     @ExceptionHandler({
             UnavailableItemForBookingException.class,
             InvalidBookingStatusForApprovingException.class,
-            UnauthorizedCommentCreateException.class
+            UnauthorizedCommentCreateException.class,
+            InvalidBookingPageRequestException.class,
+            InvalidBookingApprovalRequestException.class,
+            InvalidItemRequestPageRequestException.class
     })
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Map<String, String> handleBadRequestException(RuntimeException ex) {
-        return getMappedExceptionResponseMessage(ex);
+        return getMappedExceptionResponseMessage(ex, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleValidationException(MethodArgumentNotValidException ex) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + " violation :" + error.getDefaultMessage())
+                .collect(Collectors.joining("; "));
+        return getMappedExceptionResponseMessage(ex, message, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler({
@@ -30,13 +52,16 @@ public class ServerGlobalExceptionHandler {
     })
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public Map<String, String> handleNotFoundException(RuntimeException ex) {
-        return getMappedExceptionResponseMessage(ex);
+        return getMappedExceptionResponseMessage(ex, HttpStatus.NOT_FOUND);
     }
 
-    @ExceptionHandler(EmailAlreadyExistsException.class)
+    @ExceptionHandler({
+            EmailAlreadyExistsException.class,
+            BookingDatesOverlapException.class
+    })
     @ResponseStatus(HttpStatus.CONFLICT)
-    public Map<String, String> handleEmailDuplicateException(RuntimeException ex) {
-        return getMappedExceptionResponseMessage(ex);
+    public Map<String, String> handleConflictException(RuntimeException ex) {
+        return getMappedExceptionResponseMessage(ex, HttpStatus.CONFLICT);
     }
 
     @ExceptionHandler({
@@ -44,13 +69,23 @@ public class ServerGlobalExceptionHandler {
     })
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public Map<String, String> handleUnauthorizedBookingApprovalException(RuntimeException ex) {
-        return getMappedExceptionResponseMessage(ex);
+        return getMappedExceptionResponseMessage(ex, HttpStatus.FORBIDDEN);
+    }
+
+    private Map<String, String> getMappedExceptionResponseMessage(RuntimeException ex, HttpStatus status) {
+        return getMappedExceptionResponseMessage(ex, ex.getMessage(), status);
     }
 
-    private static Map<String, String> getMappedExceptionResponseMessage(RuntimeException ex) {
-        log.warn("Exception: {}", ex.getMessage());
+    private Map<String, String> getMappedExceptionResponseMessage(Exception ex, String message, HttpStatus status) {
+        log.warn("Exception: {}", message);
+        meterRegistry.ifAvailable(registry -> Counter.builder("shareit.errors")
+                .description("Exceptions handled by ServerGlobalExceptionHandler")
+                .tag("exception", ex.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(registry)
+                .increment());
         Map<String, String> response = new HashMap<>();
-        response.put("error", ex.getMessage());
+        response.put("error", message);
         return response;
     }
 }
\ No newline at end of file
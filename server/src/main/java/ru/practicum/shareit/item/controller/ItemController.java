@@ -50,10 +50,13 @@ public class ItemController {
 
     @GetMapping("/search")
     public Collection<ItemResponseDto> searchUserItemsByItemText(@RequestParam(name = "text") String text,
-                                                                 @RequestHeader(Constants.USER_ID_HEADER) long userId) {
-        log.info("Received request to search items with text: '{}' for userId: {}", text, userId);
+                                                                 @RequestHeader(Constants.USER_ID_HEADER) long userId,
+                                                                 @RequestParam(defaultValue = "0") int from,
+                                                                 @RequestParam(defaultValue = "100") int size) {
+        log.info("Received request to search items with text: '{}' for userId: {}, from = {}, size = {}",
+                text, userId, from, size);
 
-        return itemService.searchUserItemsBySearchText(userId, text);
+        return itemService.searchUserItemsBySearchText(userId, text, from, size);
     }
 
     @GetMapping("/{itemId}")
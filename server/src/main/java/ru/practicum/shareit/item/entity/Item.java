@@ -2,6 +2,8 @@ package ru.practicum.shareit.item.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.comment.entity.Comment;
 import ru.practicum.shareit.request.entity.ItemRequest;
@@ -16,6 +18,8 @@ import java.util.List;
 @AllArgsConstructor
 @Builder(toBuilder = true)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "items")
 public class Item {
     @Id
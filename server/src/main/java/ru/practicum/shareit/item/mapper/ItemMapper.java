@@ -1,6 +1,8 @@
 package ru.practicum.shareit.item.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.comment.mapper.CommentMapper;
 import ru.practicum.shareit.item.dto.ItemDetailedResponseDto;
@@ -11,6 +13,7 @@ import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Mapper(componentModel = "spring", uses = {CommentMapper.class, BookingMapper.class, ItemRequestMapper.class})
 public interface ItemMapper {
@@ -21,5 +24,17 @@ public interface ItemMapper {
 
     ItemDetailedResponseDto toDetailedResponse(Item item);
 
-    List<ItemDetailedResponseDto> toDetailedResponseList(Collection<Item> items);
+    @Mapping(target = "id", source = "item.id")
+    @Mapping(target = "lastBooking", source = "lastBooking")
+    @Mapping(target = "nextBooking", source = "nextBooking")
+    ItemDetailedResponseDto toDetailedResponse(Item item, Booking lastBooking, Booking nextBooking);
+
+    // lastBookings и nextBookings индексированы по id вещи и заполняются одним запросом на всех вещей владельца
+    default List<ItemDetailedResponseDto> toDetailedResponseList(Collection<Item> items,
+                                                                 Map<Long, Booking> lastBookings,
+                                                                 Map<Long, Booking> nextBookings) {
+        return items.stream()
+                .map(item -> toDetailedResponse(item, lastBookings.get(item.getId()), nextBookings.get(item.getId())))
+                .toList();
+    }
 }
\ No newline at end of file
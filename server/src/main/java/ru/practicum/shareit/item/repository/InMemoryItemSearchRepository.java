@@ -0,0 +1,268 @@
+package ru.practicum.shareit.item.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.entity.Item;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Встроенный инвертированный индекс по триграммам для H2 и тестов. Совпадения те же, что у запроса
+// ItemRepository.searchAvailableByText: подстрока названия или описания либо все слова запроса в любом порядке
+// (plainto_tsquery с конфигурацией simple). Индексируются только доступные вещи,
+// изменения приходят из событий Hibernate после коммита, откаченные транзакции индекс не трогают.
+// Вещи, измененные в БД в обход Hibernate (каскадное удаление, массовые запросы), могут остаться в индексе -
+// при загрузке из репозитория отбрасываются удаленные и недоступные
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "in-memory")
+public class InMemoryItemSearchRepository implements ItemSearchRepository,
+        PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+    private static final int GRAM_LENGTH = 3;
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}-]+");
+
+    private final ItemRepository itemRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Long, Document> documents = new TreeMap<>();
+    private final Map<String, NavigableSet<Long>> postings = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+
+        itemRepository.findAll().forEach(this::index);
+        log.info("[SERVER | SEARCH] In-memory item index built. Indexed items: {}", documents.size());
+    }
+
+    // Смещение отсчитывается по вещам, которые реально есть в БД и доступны: устаревшие id из индекса
+    // пропускаются, и вместо них догружаются следующие совпадения
+    @Override
+    public List<Item> searchAvailable(String text, int from, int size) {
+        Query query = new Query(text.toLowerCase());
+        List<Item> page = new ArrayList<>(size);
+        int skipped = 0;
+        long lastId = Long.MIN_VALUE;
+        while (page.size() < size) {
+            List<Long> batch = matches(query, lastId, (from - skipped) + (size - page.size()));
+            if (batch.isEmpty()) {
+                break;
+            }
+            lastId = batch.getLast();
+
+            Map<Long, Item> items = itemRepository.findAllById(batch).stream()
+                    .collect(Collectors.toMap(Item::getId, Function.identity()));
+            for (Long id : batch) {
+                Item item = items.get(id);
+                if (item == null || !Boolean.TRUE.equals(item.getAvailable())) {
+                    continue;
+                }
+                if (skipped < from) {
+                    skipped++;
+                    continue;
+                }
+                page.add(item);
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Item item) {
+            index(item);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Item item) {
+            index(item);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Item item) {
+            lock.writeLock().lock();
+            try {
+                remove(item.getId());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Вставка откачена: в индекс она не попадала
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Изменение откачено: индекс хранит закоммиченное состояние
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Удаление откачено: вещь остается в индексе
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+
+    private void index(Item item) {
+        lock.writeLock().lock();
+        try {
+            remove(item.getId());
+            if (Boolean.TRUE.equals(item.getAvailable())) {
+                Document document = new Document(item.getName().toLowerCase(), item.getDescription().toLowerCase());
+                documents.put(item.getId(), document);
+                for (String gram : document.grams()) {
+                    postings.computeIfAbsent(gram, key -> new TreeSet<>()).add(item.getId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long itemId) {
+        Document document = documents.remove(itemId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            NavigableSet<Long> ids = postings.get(gram);
+            ids.remove(itemId);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    // Не больше limit id совпадений, больших afterId, в порядке возрастания
+    private List<Long> matches(Query query, long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>(limit);
+            for (Long id : candidates(query).tailSet(afterId, false)) {
+                if (ids.size() == limit) {
+                    break;
+                }
+                if (documents.get(id).matches(query)) {
+                    ids.add(id);
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Кандидаты в порядке возрастания id: самый короткий список триграмм слов запроса. Любое слово запроса
+    // входит и в документ с подстрокой запроса, и в документ со всеми словами. Без триграмм - все документы
+    private NavigableSet<Long> candidates(Query query) {
+        Set<String> grams = new HashSet<>();
+        query.terms().forEach(term -> grams.addAll(grams(term)));
+        if (grams.isEmpty()) {
+            return documents.navigableKeySet();
+        }
+        NavigableSet<Long> shortest = null;
+        for (String gram : grams) {
+            NavigableSet<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Collections.emptyNavigableSet();
+            }
+            if (shortest == null || ids.size() < shortest.size()) {
+                shortest = ids;
+            }
+        }
+        return shortest;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    // Слова как у парсера PostgreSQL: буквы и цифры, слово через дефис дает и себя целиком, и свои части
+    private static Set<String> terms(String text) {
+        Set<String> terms = new HashSet<>();
+        for (String word : WORD_SEPARATOR.split(text)) {
+            for (String part : word.split("-")) {
+                if (!part.isEmpty()) {
+                    terms.add(part);
+                }
+            }
+            String compound = word.replaceAll("^-+|-+$", "");
+            if (compound.contains("-")) {
+                terms.add(compound);
+            }
+        }
+        return terms;
+    }
+
+    private record Query(String text, Set<String> terms) {
+        Query(String text) {
+            this(text, InMemoryItemSearchRepository.terms(text));
+        }
+    }
+
+    private record Document(String name, String description, Set<String> terms) {
+        Document(String name, String description) {
+            this(name, description, InMemoryItemSearchRepository.terms(name + " " + description));
+        }
+
+        boolean matches(Query query) {
+            return name.contains(query.text()) || description.contains(query.text())
+                    || !query.terms().isEmpty() && terms.containsAll(query.terms());
+        }
+
+        Set<String> grams() {
+            Set<String> grams = InMemoryItemSearchRepository.grams(name);
+            grams.addAll(InMemoryItemSearchRepository.grams(description));
+            return grams;
+        }
+    }
+}
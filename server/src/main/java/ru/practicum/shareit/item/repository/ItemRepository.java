@@ -1,29 +1,51 @@
 package ru.practicum.shareit.item.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.item.entity.Item;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
     Optional<Item> findByIdAndOwnerId(long itemId, long ownerId);
 
+    // Вещи, которые БД удалит каскадом вместе с пользователем: его собственные и ответы на его запросы
     @Query("""
-        SELECT DISTINCT it
-        FROM Item it
-        WHERE (lower(it.description) LIKE lower(CONCAT('%', :searchText, '%'))
-        OR lower(it.name) LIKE lower(CONCAT('%', :searchText, '%')) )
+        SELECT it.id FROM Item it
+        LEFT JOIN it.request r
+        WHERE it.owner.id = :userId OR r.requester.id = :userId
         """)
-    Collection<Item> findBySearchText(@Param("searchText") String searchText);
+    List<Long> findIdsDeletedWithUser(@Param("userId") long userId);
+
+    // Блокирует строку вещи до конца транзакции, чтобы параллельные бронирования проверялись на пересечение по очереди
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT it FROM Item it WHERE it.id = :itemId")
+    Optional<Item> findByIdForUpdate(@Param("itemId") long itemId);
+
+    // Запрос рассчитан на GIN-индексы из миграции V4__create_item_search_indexes.sql: выражения и условие is_available совпадают с индексными
+    @Query(value = """
+        SELECT it.*
+        FROM items it
+        WHERE it.is_available
+        AND (to_tsvector('simple', it.name || ' ' || it.description) @@ plainto_tsquery('simple', :text)
+        OR lower(it.name) LIKE '%' || lower(:text) || '%'
+        OR lower(it.description) LIKE '%' || lower(:text) || '%')
+        ORDER BY it.id
+        LIMIT :limit OFFSET :offset
+        """, nativeQuery = true)
+    List<Item> searchAvailableByText(@Param("text") String text, @Param("limit") int limit, @Param("offset") int offset);
 
     @Query("""
         SELECT DISTINCT it
         FROM Item it
         LEFT JOIN FETCH it.comments c
+        LEFT JOIN FETCH c.author
         WHERE it.owner.id = :ownerId
     """)
     Collection<Item> findAllByOwnerIdWithComments(@Param("ownerId") long ownerId);
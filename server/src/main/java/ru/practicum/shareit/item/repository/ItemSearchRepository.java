@@ -0,0 +1,10 @@
+package ru.practicum.shareit.item.repository;
+
+import ru.practicum.shareit.item.entity.Item;
+
+import java.util.List;
+
+// Поиск доступных вещей по подстроке в названии или описании; реализация выбирается свойством shareit.search.engine
+public interface ItemSearchRepository {
+    List<Item> searchAvailable(String text, int from, int size);
+}
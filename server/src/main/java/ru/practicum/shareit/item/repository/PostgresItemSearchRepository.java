@@ -0,0 +1,21 @@
+package ru.practicum.shareit.item.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.entity.Item;
+
+import java.util.List;
+
+// Полнотекстовый поиск средствами PostgreSQL: GIN-индексы по tsvector и pg_trgm из миграции V4__create_item_search_indexes.sql
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "postgresql", matchIfMissing = true)
+public class PostgresItemSearchRepository implements ItemSearchRepository {
+    private final ItemRepository itemRepository;
+
+    @Override
+    public List<Item> searchAvailable(String text, int from, int size) {
+        return itemRepository.searchAvailableByText(text, size, from);
+    }
+}
@@ -16,7 +16,7 @@ public interface ItemService {
 
     ItemDetailedResponseDto getItemWithCommentsById(long itemId, long userId);
 
-    Collection<ItemResponseDto> searchUserItemsBySearchText(long userId, String searchText);
+    Collection<ItemResponseDto> searchUserItemsBySearchText(long userId, String searchText, int from, int size);
 
     ItemResponseDto createItemOnRequest(long userId, long requestId, ItemPostDto itemCreateDto);
 }
@@ -8,9 +8,10 @@ import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.error.ItemNotFoundException;
 import ru.practicum.shareit.error.ItemRequestNotFoundException;
-import ru.practicum.shareit.error.UserNotFoundException;
 import ru.practicum.shareit.item.dto.ItemDetailedResponseDto;
 import ru.practicum.shareit.item.dto.ItemPatchDto;
 import ru.practicum.shareit.item.dto.ItemPostDto;
@@ -18,13 +19,21 @@ import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.ItemSearchRepository;
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+import ru.practicum.shareit.outbox.service.OutboxWriter;
 import ru.practicum.shareit.request.entity.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.user.entity.User;
-import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.RequestUserResolver;
+import ru.practicum.shareit.util.LogPayload;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -33,17 +42,20 @@ import java.util.List;
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class ItemServiceImpl implements ItemService {
     ItemRepository itemRepository;
-    UserRepository userRepository;
+    ItemSearchRepository itemSearchRepository;
+    RequestUserResolver userResolver;
     ItemRequestRepository itemRequestRepository;
+    ItemRequestService itemRequestService;
+    BookingRepository bookingRepository;
     ItemMapper itemMapper;
+    OutboxWriter outboxWriter;
 
     @Transactional
     @Override
     public ItemResponseDto createItemByUser(long userId, ItemPostDto itemPost) {
         log.info("[SERVER | SERVICE] Invoking createItemByUser method.");
-        User owner = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
-        log.trace("[SERVER | SERVICE] Owner found: {}", owner);
+        User owner = userResolver.getReference(userId);
+        log.trace("[SERVER | SERVICE] Owner verified: userId = {}", userId);
 
         Item item = itemMapper.toEntity(itemPost);
         item.setOwner(owner);
@@ -51,18 +63,21 @@ public class ItemServiceImpl implements ItemService {
 
         Item savedItem = itemRepository.save(item);
         log.trace("[SERVER | SERVICE] Item saved: {}", savedItem);
+        itemRequestService.recordMatches(savedItem);
+        ItemResponseDto response = itemMapper.toResponse(savedItem);
+        outboxWriter.append(OutboxEventType.ITEM_CREATED, savedItem.getId(), response);
 
         log.info("[SERVER | SERVICE] Item successfully created for user. ItemId = {}, userId = {}", savedItem.getId(), userId);
-        return itemMapper.toResponse(savedItem);
+        return response;
     }
 
+    @Transactional
     @Override
     public ItemResponseDto createItemOnRequest(long userId, long requestId, ItemPostDto itemPost) {
         log.info("[SERVER | SERVICE] Invoking createItemByRequest method of ItemService");
         Item item = itemMapper.toEntity(itemPost);
 
-        User owner = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+        User owner = userResolver.getReference(userId);
         item.setOwner(owner);
         log.trace("[SERVER | SERVICE] Owner was found and saved to item as field: {}", item);
 
@@ -78,17 +93,18 @@ public class ItemServiceImpl implements ItemService {
         Hibernate.initialize(itemSaved.getRequest());
         log.trace("[SERVER | SERVICE] Item was successfully saved into db: {}", itemSaved);
 
+        ItemResponseDto response = itemMapper.toResponse(itemSaved);
+        outboxWriter.append(OutboxEventType.ITEM_CREATED, itemSaved.getId(), response);
+
         log.info("[SERVER | SERVICE] createItemByRequest was successfully invoked");
-        return itemMapper.toResponse(itemSaved);
+        return response;
     }
 
     @Transactional
     @Override
     public ItemResponseDto updateItemByIdAndOwnerId(long ownerId, long itemId, ItemPatchDto updateData) {
         log.info("[SERVER | SERVICE] Invoking updateUserItem method.");
-        if (!userRepository.existsById(ownerId)) {
-            throw new UserNotFoundException(ownerId);
-        }
+        userResolver.requireExists(ownerId);
 
         Item itemFound = itemRepository.findByIdAndOwnerId(itemId, ownerId)
                 .orElseThrow(() -> new ItemNotFoundException(itemId));
@@ -104,34 +120,43 @@ public class ItemServiceImpl implements ItemService {
         Item updatedItem = itemRepository.save(itemToUpdate);
         log.trace("[SERVER | SERVICE] Item updated in DB: {}", updatedItem);
 
+        ItemResponseDto response = itemMapper.toResponse(updatedItem);
+        outboxWriter.append(OutboxEventType.ITEM_UPDATED, itemId, response);
+
         log.info("[SERVER | SERVICE] Item with ID = {} successfully updated for user with ID = {}", itemId, ownerId);
-        return itemMapper.toResponse(updatedItem);
+        return response;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public Collection<ItemDetailedResponseDto> getOwnerItemsWithComments(long userId) {
         log.info("[SERVER | SERVICE] Invoking getOwnerItemsWithComments method.");
-        if (!userRepository.existsById(userId)) {
-            throw new UserNotFoundException(userId);
-        }
+        userResolver.requireExists(userId);
 
         List<Item> items = (List<Item>) itemRepository.findAllByOwnerIdWithComments(userId);
-        log.debug("[SERVER | SERVICE] Items retrieved for owner with ID = {}: {}", userId, items);
+        log.debug("[SERVER | SERVICE] Items retrieved for owner with ID = {}: {}", userId, LogPayload.of(items));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Booking> lastBookings = new HashMap<>();
+        Map<Long, Booking> nextBookings = new HashMap<>();
+        for (Booking booking : bookingRepository.findLastAndNextApprovedByItemOwnerId(userId, now)) {
+            Map<Long, Booking> target = booking.getEnd().isBefore(now) ? lastBookings : nextBookings;
+            target.putIfAbsent(booking.getItem().getId(), booking);
+        }
+        log.trace("[SERVER | SERVICE] Found last bookings for {} items and next bookings for {} items",
+                lastBookings.size(), nextBookings.size());
 
-        List<ItemDetailedResponseDto> detailedItems = itemMapper.toDetailedResponseList(items);
+        List<ItemDetailedResponseDto> detailedItems = itemMapper.toDetailedResponseList(items, lastBookings, nextBookings);
 
         log.info("[SERVER | SERVICE] Successfully retrieved {} items with comments for user with ID = {}", items.size(), userId);
         return detailedItems;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public ItemDetailedResponseDto getItemWithCommentsById(long itemId, long userId) {
         log.info("[SERVER | SERVICE] Invoking getItemWithCommentsById method.");
-        if (!userRepository.existsById(userId)) {
-            throw new UserNotFoundException(userId);
-        }
+        userResolver.requireExists(userId);
 
         Item foundItem = itemRepository.findByIdWithComments(itemId)
                 .orElseThrow(() -> new ItemNotFoundException(itemId));
@@ -141,19 +166,20 @@ public class ItemServiceImpl implements ItemService {
         return itemMapper.toDetailedResponse(foundItem);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
-    public Collection<ItemResponseDto> searchUserItemsBySearchText(long userId, String searchText) {
+    public Collection<ItemResponseDto> searchUserItemsBySearchText(long userId, String searchText, int from, int size) {
         log.info("[SERVER | SERVICE] Invoking searchUserItemsBySearchText method.");
-        if (!userRepository.existsById(userId)) {
-            throw new UserNotFoundException(userId);
+        userResolver.requireExists(userId);
+        if (searchText.isBlank()) {
+            return List.of();
         }
 
-        Collection<Item> foundItems = itemRepository.findBySearchText(searchText);
-        log.debug("[SERVER | SERVICE] Items found by search text '{}': {}", searchText, foundItems);
+        List<Item> foundItems = itemSearchRepository.searchAvailable(searchText, from, size);
+        log.debug("[SERVER | SERVICE] Items found by search text '{}' (from = {}, size = {}): {}",
+                searchText, from, size, LogPayload.of(foundItems));
 
         Collection<ItemResponseDto> response = foundItems.stream()
-                .filter(Item::getAvailable)
                 .map(itemMapper::toResponse)
                 .toList();
 
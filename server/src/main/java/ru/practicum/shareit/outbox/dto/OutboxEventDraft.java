@@ -0,0 +1,7 @@
+package ru.practicum.shareit.outbox.dto;
+
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+
+// Событие, которое еще предстоит записать в outbox вместе с остальными событиями пакетной операции
+public record OutboxEventDraft(OutboxEventType eventType, long aggregateId, Object payload) {
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.outbox.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+
+import java.time.LocalDateTime;
+
+// Событие в том виде, в каком оно уходит в приемник; payload уже JSON и вставляется без повторной сериализации
+public record OutboxMessage(long id, String aggregateType, long aggregateId, OutboxEventType eventType,
+                            @JsonRawValue String payload, LocalDateTime created) {
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.outbox.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    BOOKING_CREATED("BOOKING"),
+    BOOKING_APPROVED("BOOKING"),
+    BOOKING_REJECTED("BOOKING"),
+    ITEM_CREATED("ITEM"),
+    ITEM_UPDATED("ITEM"),
+    COMMENT_CREATED("COMMENT"),
+    USER_CREATED("USER"),
+    USER_UPDATED("USER"),
+    USER_DELETED("USER");
+
+    private final String aggregateType;
+}
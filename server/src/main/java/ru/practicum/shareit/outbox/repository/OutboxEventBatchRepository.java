@@ -0,0 +1,10 @@
+package ru.practicum.shareit.outbox.repository;
+
+import ru.practicum.shareit.outbox.entity.OutboxEvent;
+
+import java.util.List;
+
+// Запись пачки событий многострочным INSERT: при IDENTITY-ключе Hibernate не группирует вставки в JDBC batch
+public interface OutboxEventBatchRepository {
+    void insertAll(List<OutboxEvent> events);
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.outbox.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import ru.practicum.shareit.outbox.entity.OutboxEvent;
+
+import java.util.List;
+
+class OutboxEventBatchRepositoryImpl implements OutboxEventBatchRepository {
+    private static final String INSERT = """
+        INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at)
+        VALUES\s""";
+    private static final String ROW = "(?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 5;
+
+    // Ограничение числа параметров одного запроса: у PostgreSQL не больше 65535
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<OutboxEvent> events) {
+        for (int from = 0; from < events.size(); from += MAX_ROWS_PER_STATEMENT) {
+            insertChunk(events.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, events.size())));
+        }
+    }
+
+    private void insertChunk(List<OutboxEvent> events) {
+        StringBuilder sql = new StringBuilder(INSERT);
+        for (int i = 0; i < events.size(); i++) {
+            sql.append(i == 0 ? ROW : ", " + ROW);
+        }
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (OutboxEvent event : events) {
+            query.setParameter(position, event.getAggregateType());
+            query.setParameter(position + 1, event.getAggregateId());
+            query.setParameter(position + 2, event.getEventType().name());
+            query.setParameter(position + 3, event.getPayload());
+            query.setParameter(position + 4, event.getCreated());
+            position += COLUMNS;
+        }
+        query.executeUpdate();
+    }
+}
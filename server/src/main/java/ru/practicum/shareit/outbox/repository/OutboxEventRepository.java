@@ -0,0 +1,20 @@
+package ru.practicum.shareit.outbox.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.outbox.entity.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxEventBatchRepository {
+    // Самые старые неотправленные события. Строки, уже взятые другим ретранслятором, пропускаются, а не ждут
+    // его коммита. Запрос нативный: диалект Hibernate для H2 не выводит SKIP LOCKED из подсказки блокировки
+    @Query(value = """
+            SELECT * FROM outbox_events
+            ORDER BY id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> findBatchForRelay(@Param("batchSize") int batchSize);
+}
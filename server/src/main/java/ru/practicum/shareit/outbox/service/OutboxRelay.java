@@ -0,0 +1,102 @@
+package ru.practicum.shareit.outbox.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.config.OutboxProperties;
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+import ru.practicum.shareit.outbox.entity.OutboxEvent;
+import ru.practicum.shareit.outbox.repository.OutboxEventRepository;
+import ru.practicum.shareit.outbox.sink.OutboxSink;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Фоновая отправка событий outbox: пачка читается с блокировкой строк, отдается приемнику и удаляется в одной
+// транзакции. Несколько экземпляров сервера разбирают таблицу параллельно, не ожидая друг друга (SKIP LOCKED),
+// поэтому порядок событий гарантирован только внутри одной пачки
+@Slf4j
+@Component
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("outbox-relay").daemon().factory());
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink sink, OutboxProperties properties,
+                       PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() {
+        if (properties.isRequireDurableSink() && !sink.isDurable()) {
+            throw new IllegalStateException("Outbox sink " + sink.getClass().getSimpleName()
+                    + " loses events on restart, but shareit.outbox.require-durable-sink=true: "
+                    + "set shareit.outbox.sink=file");
+        }
+        long interval = properties.getPollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::relayScheduled, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("[SERVER | OUTBOX] Relay started: sink = {}, batch size = {}, poll interval = {}",
+                sink.getClass().getSimpleName(), properties.getBatchSize(), properties.getPollInterval());
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    // Разбирает таблицу пачками, пока очередная пачка не окажется неполной. Возвращает число отправленных событий
+    public int relayPending() {
+        int relayed = 0;
+        int batch;
+        do {
+            batch = relayBatch();
+            relayed += batch;
+        } while (batch == properties.getBatchSize());
+        return relayed;
+    }
+
+    private int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findBatchForRelay(properties.getBatchSize());
+            if (events.isEmpty()) {
+                return 0;
+            }
+            sink.publish(events.stream().map(OutboxRelay::toMessage).toList());
+            outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+            return events.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    private void relayScheduled() {
+        // Исключение не должно выйти из задачи: ScheduledExecutorService после него перестает ее запускать
+        try {
+            int relayed = relayPending();
+            if (relayed > 0) {
+                log.debug("[SERVER | OUTBOX] Relayed {} events", relayed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[SERVER | OUTBOX] Relay failed, events stay in outbox for the next attempt", e);
+        }
+    }
+
+    private static OutboxMessage toMessage(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreated());
+    }
+}
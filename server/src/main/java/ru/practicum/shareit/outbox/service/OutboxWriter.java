@@ -0,0 +1,61 @@
+package ru.practicum.shareit.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.outbox.dto.OutboxEventDraft;
+import ru.practicum.shareit.outbox.entity.OutboxEvent;
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+import ru.practicum.shareit.outbox.repository.OutboxEventRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Запись события в outbox возможна только внутри транзакции изменения: событие и изменение фиксируются вместе
+// или не фиксируются вовсе. Путь записи платит одним INSERT, отправка выполняется ретранслятором асинхронно
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, long aggregateId, Object payload) {
+        outboxEventRepository.save(toEvent(eventType, aggregateId, payload, LocalDateTime.now()));
+        log.trace("[SERVER | OUTBOX] Appended {} for aggregate id = {}", eventType, aggregateId);
+    }
+
+    // События пакетной операции пишутся одним INSERT, а не по строке на каждое
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<OutboxEventDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.insertAll(drafts.stream()
+                .map(draft -> toEvent(draft.eventType(), draft.aggregateId(), draft.payload(), now))
+                .toList());
+        log.trace("[SERVER | OUTBOX] Appended {} events", drafts.size());
+    }
+
+    private OutboxEvent toEvent(OutboxEventType eventType, long aggregateId, Object payload, LocalDateTime created) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload of " + eventType, e);
+        }
+        return OutboxEvent.builder()
+                .aggregateType(eventType.getAggregateType())
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(json)
+                .created(created)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.outbox.sink;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.config.OutboxProperties;
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+// Приемник по умолчанию для разработки и тестов: последние capacity событий в памяти процесса
+@Component
+@ConditionalOnProperty(name = "shareit.outbox.sink", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryOutboxSink implements OutboxSink {
+    private final int capacity;
+    private final Deque<OutboxMessage> messages = new ArrayDeque<>();
+
+    public InMemoryOutboxSink(OutboxProperties properties) {
+        this.capacity = properties.getCapacity();
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(message);
+        }
+    }
+
+    @Override
+    public boolean isDurable() {
+        return false;
+    }
+
+    public synchronized List<OutboxMessage> getMessages() {
+        return List.copyOf(messages);
+    }
+}
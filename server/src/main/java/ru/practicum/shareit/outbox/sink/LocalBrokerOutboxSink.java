@@ -0,0 +1,57 @@
+package ru.practicum.shareit.outbox.sink;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.config.OutboxProperties;
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Заменитель внешнего брокера: топик на тип агрегата (shareit.booking, shareit.item, ...) с ограниченной очередью.
+// Переполненный топик отклоняет пачку, и ретранслятор повторит ее позже, как при недоступном брокере
+@Component
+@ConditionalOnProperty(name = "shareit.outbox.sink", havingValue = "broker")
+public class LocalBrokerOutboxSink implements OutboxSink {
+    private final int capacity;
+    private final Map<String, BlockingQueue<OutboxMessage>> topics = new ConcurrentHashMap<>();
+
+    public LocalBrokerOutboxSink(OutboxProperties properties) {
+        this.capacity = properties.getCapacity();
+    }
+
+    // Очереди топиков живут в памяти процесса, как и у in-memory
+    @Override
+    public boolean isDurable() {
+        return false;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            String topic = topicOf(message.aggregateType());
+            if (!topic(topic).offer(message)) {
+                throw new IllegalStateException("Topic " + topic + " is full");
+            }
+        }
+    }
+
+    // null, если за timeout в топике ничего не появилось
+    public OutboxMessage poll(String topic, Duration timeout) throws InterruptedException {
+        return topic(topic).poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public static String topicOf(String aggregateType) {
+        return "shareit." + aggregateType.toLowerCase(Locale.ROOT);
+    }
+
+    private BlockingQueue<OutboxMessage> topic(String topic) {
+        return topics.computeIfAbsent(topic, key -> new ArrayBlockingQueue<>(capacity));
+    }
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.outbox.sink;
+
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+
+import java.util.List;
+
+// Получатель событий outbox. Исключение из publish откатывает пачку: события останутся в таблице
+// и будут отправлены повторно, поэтому приемник должен переносить повторную доставку (at-least-once)
+public interface OutboxSink {
+    void publish(List<OutboxMessage> messages);
+
+    // Переживают ли принятые события перезапуск процесса: события удаляются из таблицы сразу после publish
+    default boolean isDurable() {
+        return true;
+    }
+}
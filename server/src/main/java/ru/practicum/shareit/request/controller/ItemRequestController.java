@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestPostDto;
 import ru.practicum.shareit.request.dto.ItemRequestSimpleDto;
 import ru.practicum.shareit.request.dto.ItemRequestWithResponsesDto;
@@ -33,17 +35,28 @@ public class ItemRequestController {
 
     @GetMapping
     public Collection<ItemRequestWithResponsesDto> getUserRequestsWithResponses(
-            @RequestHeader(Constants.USER_ID_HEADER) long userId) {
-        log.info("[SERVER | CONTROLLER] getUserRequests called with userId: {}", userId);
-        Collection<ItemRequestWithResponsesDto> response = itemRequestService.getUserRequests(userId);
+            @RequestHeader(Constants.USER_ID_HEADER) long userId,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size) {
+        log.info("[SERVER | CONTROLLER] getUserRequests called with userId: {}, from: {}, after: {}, size: {}",
+                userId, from, after, size);
+        Collection<ItemRequestWithResponsesDto> response = itemRequestService.getUserRequests(
+                userId, ItemRequestPageRequest.of(from, after, size));
         log.info("[SERVER | CONTROLLER] getUserRequests completed for userId: {}", userId);
         return response;
     }
 
     @GetMapping("/all")
-    public Collection<ItemRequestSimpleDto> getAllRequests() {
-        log.info("[SERVER | CONTROLLER] getAllOtherRequests called");
-        Collection<ItemRequestSimpleDto> response = itemRequestService.getAllRequests();
+    public Collection<ItemRequestSimpleDto> getAllRequests(
+            @RequestHeader(Constants.USER_ID_HEADER) long userId,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size) {
+        log.info("[SERVER | CONTROLLER] getAllOtherRequests called with userId: {}, from: {}, after: {}, size: {}",
+                userId, from, after, size);
+        Collection<ItemRequestSimpleDto> response = itemRequestService.getAllRequests(
+                userId, ItemRequestPageRequest.of(from, after, size));
         log.info("[SERVER | CONTROLLER] getAllOtherRequests completed with size = {}", response.size());
         return response;
     }
@@ -57,4 +70,14 @@ public class ItemRequestController {
         log.info("[SERVER | CONTROLLER] getSpecificItemRequest completed for itemRequestId: {}", itemRequestId);
         return response;
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{itemRequestId}/matches")
+    public Collection<ItemRequestMatchDto> getItemRequestMatches(
+            @PathVariable(name = "itemRequestId") long itemRequestId,
+            @RequestHeader(Constants.USER_ID_HEADER) long userId) {
+        log.info("[SERVER | CONTROLLER] getItemRequestMatches called with itemRequestId: {}, userId: {}", itemRequestId, userId);
+        Collection<ItemRequestMatchDto> response = itemRequestService.getMatches(itemRequestId, userId);
+        log.info("[SERVER | CONTROLLER] getItemRequestMatches completed with size = {}", response.size());
+        return response;
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.Value;
+import ru.practicum.shareit.error.InvalidItemRequestPageRequestException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// Параметры пагинации чужих запросов: смещение from или курсор after = "<created>,<id>" последнего
+// запроса предыдущей страницы. Курсор не зависит от глубины страницы, смещение оставлено для совместимости
+@Value
+public class ItemRequestPageRequest {
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 1000;
+
+    int from;
+    LocalDateTime afterCreated;
+    Long afterId;
+    int size;
+
+    public static ItemRequestPageRequest of(Integer from, String after, Integer size) {
+        int pageSize = size == null ? DEFAULT_SIZE : size;
+        if (pageSize <= 0 || pageSize > MAX_SIZE) {
+            throw new InvalidItemRequestPageRequestException(
+                    String.format("Page size should be between 1 and %d, but was %d", MAX_SIZE, pageSize));
+        }
+        int offset = from == null ? 0 : from;
+        if (offset < 0) {
+            throw new InvalidItemRequestPageRequestException("Page offset should not be negative, but was " + offset);
+        }
+        if (after == null || after.isBlank()) {
+            return new ItemRequestPageRequest(offset, null, null, pageSize);
+        }
+        if (offset != 0) {
+            throw new InvalidItemRequestPageRequestException("Page offset and cursor should not be used together");
+        }
+
+        String[] cursor = after.split(",");
+        if (cursor.length != 2) {
+            throw new InvalidItemRequestPageRequestException(
+                    "Cursor should have format '<created>,<id>', but was " + after);
+        }
+        try {
+            return new ItemRequestPageRequest(0, LocalDateTime.parse(cursor[0].trim()),
+                    Long.parseLong(cursor[1].trim()), pageSize);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidItemRequestPageRequestException(
+                    "Cursor should have format '<created>,<id>', but was " + after);
+        }
+    }
+
+    public boolean hasCursor() {
+        return afterCreated != null;
+    }
+}
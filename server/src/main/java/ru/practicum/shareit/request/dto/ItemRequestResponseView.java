@@ -0,0 +1,9 @@
+package ru.practicum.shareit.request.dto;
+
+// Вещь, созданная в ответ на запрос: только поля, которые отдаются в ItemRequestWithResponsesDto
+public record ItemRequestResponseView(
+        long requestId,
+        long itemId,
+        String name,
+        long ownerId) {
+}
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.request.dto;
+
+// Запрос без ответов: только поля, нужные индексу сопоставления
+public record OpenItemRequestView(
+        long id,
+        String description,
+        long requesterId) {
+}
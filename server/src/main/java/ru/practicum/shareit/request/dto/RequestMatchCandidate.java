@@ -0,0 +1,7 @@
+package ru.practicum.shareit.request.dto;
+
+// Открытый запрос, подходящий под новую вещь: score - доля слов запроса, найденных в вещи
+public record RequestMatchCandidate(
+        long requestId,
+        double score) {
+}
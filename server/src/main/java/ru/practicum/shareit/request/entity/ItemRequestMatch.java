@@ -0,0 +1,37 @@
+package ru.practicum.shareit.request.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import ru.practicum.shareit.item.entity.Item;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "request_matches")
+public class ItemRequestMatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "request_id", nullable = false)
+    @ToString.Exclude
+    private ItemRequest request;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false)
+    @ToString.Exclude
+    private Item item;
+
+    @Column(name = "score", nullable = false)
+    private Double score;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime created;
+}
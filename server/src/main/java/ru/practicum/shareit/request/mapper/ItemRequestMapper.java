@@ -4,12 +4,14 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.request.dto.ItemRequestPostDto;
+import ru.practicum.shareit.request.dto.ItemRequestResponseView;
 import ru.practicum.shareit.request.dto.ItemRequestSimpleDto;
 import ru.practicum.shareit.request.dto.ItemRequestWithResponsesDto;
 import ru.practicum.shareit.request.dto.ResponseOnItemRequestDto;
 import ru.practicum.shareit.request.entity.ItemRequest;
 
 import java.util.Collection;
+import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface ItemRequestMapper {
@@ -27,5 +29,10 @@ public interface ItemRequestMapper {
 
     ItemRequestWithResponsesDto toDetailedResponse(ItemRequest entity);
 
+    ItemRequestWithResponsesDto toDetailedResponse(ItemRequestSimpleDto request, List<ResponseOnItemRequestDto> items);
+
+    @Mapping(target = "id", source = "itemId")
+    ResponseOnItemRequestDto toResponseOnRequest(ItemRequestResponseView response);
+
     Collection<ItemRequestWithResponsesDto> toDetailedResponseList(Collection<ItemRequest> itemRequests);
 }
\ No newline at end of file
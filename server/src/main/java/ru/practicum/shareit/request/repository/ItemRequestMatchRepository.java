@@ -0,0 +1,21 @@
+package ru.practicum.shareit.request.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
+import ru.practicum.shareit.request.entity.ItemRequestMatch;
+
+import java.util.List;
+
+public interface ItemRequestMatchRepository extends JpaRepository<ItemRequestMatch, Long> {
+    @Query("""
+            SELECT new ru.practicum.shareit.request.dto.ItemRequestMatchDto(
+                i.id, i.name, i.description, i.owner.id, m.score, m.created)
+            FROM ItemRequestMatch m
+            JOIN m.item i
+            WHERE m.request.id = :requestId
+            ORDER BY m.score DESC, i.id
+            """)
+    List<ItemRequestMatchDto> findMatchesByRequestId(@Param("requestId") long requestId);
+}
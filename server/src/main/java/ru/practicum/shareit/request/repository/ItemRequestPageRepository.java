@@ -0,0 +1,13 @@
+package ru.practicum.shareit.request.repository;
+
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
+import ru.practicum.shareit.request.dto.ItemRequestSimpleDto;
+
+import java.util.List;
+
+// Запросы страницами: проекция без загрузки сущностей, порядок по (created, id) от новых к старым
+public interface ItemRequestPageRepository {
+    List<ItemRequestSimpleDto> findOtherUsersRequests(long userId, ItemRequestPageRequest page);
+
+    List<ItemRequestSimpleDto> findRequesterRequests(long requesterId, ItemRequestPageRequest page);
+}
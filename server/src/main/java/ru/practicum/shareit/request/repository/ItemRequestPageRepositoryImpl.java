@@ -0,0 +1,52 @@
+package ru.practicum.shareit.request.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
+import ru.practicum.shareit.request.dto.ItemRequestSimpleDto;
+
+import java.util.List;
+
+class ItemRequestPageRepositoryImpl implements ItemRequestPageRepository {
+    private static final String SELECT_REQUESTS = """
+        SELECT new ru.practicum.shareit.request.dto.ItemRequestSimpleDto(ir.id, ir.description, ir.created)
+        FROM ItemRequest ir
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ItemRequestSimpleDto> findOtherUsersRequests(long userId, ItemRequestPageRequest page) {
+        return findPage("ir.requester.id <> :userId", userId, page);
+    }
+
+    @Override
+    public List<ItemRequestSimpleDto> findRequesterRequests(long requesterId, ItemRequestPageRequest page) {
+        return findPage("ir.requester.id = :userId", requesterId, page);
+    }
+
+    private List<ItemRequestSimpleDto> findPage(String userCondition, long userId, ItemRequestPageRequest page) {
+        StringBuilder jpql = new StringBuilder(SELECT_REQUESTS)
+                .append("WHERE ").append(userCondition);
+        // Условие created <= :afterCreated задает диапазон по индексу (created_at, id),
+        // второе условие отсекает строки с тем же created, уже отданные на предыдущей странице
+        if (page.hasCursor()) {
+            jpql.append(" AND ir.created <= :afterCreated AND (ir.created < :afterCreated OR ir.id < :afterId)");
+        }
+        jpql.append(" ORDER BY ir.created DESC, ir.id DESC");
+
+        TypedQuery<ItemRequestSimpleDto> query = entityManager.createQuery(jpql.toString(), ItemRequestSimpleDto.class)
+                .setParameter("userId", userId)
+                .setMaxResults(page.getSize());
+        if (page.getFrom() > 0) {
+            query.setFirstResult(page.getFrom());
+        }
+        if (page.hasCursor()) {
+            query.setParameter("afterCreated", page.getAfterCreated())
+                    .setParameter("afterId", page.getAfterId());
+        }
+        return query.getResultList();
+    }
+}
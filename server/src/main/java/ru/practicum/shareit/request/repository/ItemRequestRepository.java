@@ -4,22 +4,23 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.request.dto.ItemRequestResponseView;
+import ru.practicum.shareit.request.dto.OpenItemRequestView;
 import ru.practicum.shareit.request.entity.ItemRequest;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
+public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long>, ItemRequestPageRepository {
+    // Ответы сразу на страницу запросов одним IN: строк столько, сколько вещей, без размножения запросов
     @Query("""
-            SELECT ir
-            FROM ItemRequest ir
-            LEFT JOIN FETCH ir.items
-            WHERE ir.requester.id = :requesterId
-            ORDER BY ir.created DESC
+            SELECT new ru.practicum.shareit.request.dto.ItemRequestResponseView(i.request.id, i.id, i.name, i.owner.id)
+            FROM Item i
+            WHERE i.request.id IN :requestIds
+            ORDER BY i.id
             """)
-    List<ItemRequest> findAllByRequesterIdOrderByCreatedDesc(@Param("requesterId") long requesterId);
-
-    List<ItemRequest> findAllByOrderByCreatedDesc();
+    List<ItemRequestResponseView> findResponsesByRequestIds(@Param("requestIds") Collection<Long> requestIds);
 
     @EntityGraph(attributePaths = "items")
     @Query("""
@@ -29,4 +30,22 @@ public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long>
             ORDER BY ir.created DESC
             """)
     Optional<ItemRequest> findByIdWithItems(@Param("requestId") long requestId);
-}
\ No newline at end of file
+
+    boolean existsByIdAndRequesterId(long id, long requesterId);
+
+    // Запросы, на которые еще не ответили ни одной вещью
+    @Query("""
+            SELECT new ru.practicum.shareit.request.dto.OpenItemRequestView(ir.id, ir.description, ir.requester.id)
+            FROM ItemRequest ir
+            WHERE NOT EXISTS (SELECT 1 FROM Item i WHERE i.request.id = ir.id)
+            """)
+    List<OpenItemRequestView> findOpenRequests();
+
+    @Query("""
+            SELECT ir.id
+            FROM ItemRequest ir
+            WHERE ir.id IN :requestIds
+            AND NOT EXISTS (SELECT 1 FROM Item i WHERE i.request.id = ir.id)
+            """)
+    List<Long> findOpenIdsByIds(@Param("requestIds") Collection<Long> requestIds);
+}
@@ -0,0 +1,164 @@
+package ru.practicum.shareit.request.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.config.RequestMatchingProperties;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.request.dto.OpenItemRequestView;
+import ru.practicum.shareit.request.dto.RequestMatchCandidate;
+import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// Инвертированный индекс слов открытых запросов: слово -> id запросов. Новая вещь сопоставляется за O(слов вещи)
+// вместо опроса всех запросов. Запрос попадает в индекс после коммита вставки и выходит из него после коммита
+// вещи-ответа, откаченные транзакции индекс не трогают. Id удаленных каскадом в БД запросов могут остаться
+// в индексе - кандидаты перепроверяются по БД перед сохранением совпадений
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RequestMatchingProperties.class)
+public class ItemRequestMatcher implements PostCommitInsertEventListener {
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_TERM_LENGTH = 3;
+
+    private final ItemRequestRepository itemRequestRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final RequestMatchingProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, OpenRequest> requests = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_COMMIT_INSERT, this);
+
+        for (OpenItemRequestView request : itemRequestRepository.findOpenRequests()) {
+            open(request.id(), request.requesterId(), request.description());
+        }
+        log.info("[SERVER | MATCHING] Open request index built. Indexed requests: {}, terms: {}",
+                requests.size(), postings.size());
+    }
+
+    // Запросы, в которых найдено не меньше minScore слов, лучшие первыми; запросы владельца вещи пропускаются
+    public List<RequestMatchCandidate> match(long ownerId, String name, String description) {
+        Set<String> itemTerms = terms(name);
+        itemTerms.addAll(terms(description));
+
+        Map<Long, Integer> hits = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String term : itemTerms) {
+                for (Long requestId : postings.getOrDefault(term, Set.of())) {
+                    hits.merge(requestId, 1, Integer::sum);
+                }
+            }
+            return hits.entrySet().stream()
+                    .filter(hit -> requests.get(hit.getKey()).requesterId() != ownerId)
+                    .map(hit -> new RequestMatchCandidate(hit.getKey(),
+                            (double) hit.getValue() / requests.get(hit.getKey()).terms().size()))
+                    .filter(candidate -> candidate.score() >= properties.getMinScore())
+                    .sorted(Comparator.comparingDouble(RequestMatchCandidate::score).reversed()
+                            .thenComparing(RequestMatchCandidate::requestId))
+                    .limit(properties.getMaxMatchesPerItem())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof ItemRequest request) {
+            open(request.getId(), request.getRequester().getId(), request.getDescription());
+        } else if (event.getEntity() instanceof Item item && item.getRequest() != null) {
+            close(item.getRequest().getId());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Вставка откачена: индекс остается прежним
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+
+    void open(long requestId, long requesterId, String description) {
+        Set<String> terms = terms(description);
+        if (terms.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            close(requestId);
+            requests.put(requestId, new OpenRequest(requesterId, terms));
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new HashSet<>()).add(requestId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void close(long requestId) {
+        lock.writeLock().lock();
+        try {
+            OpenRequest request = requests.remove(requestId);
+            if (request == null) {
+                return;
+            }
+            for (String term : request.terms()) {
+                Set<Long> ids = postings.get(term);
+                ids.remove(requestId);
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Set<String> terms(String text) {
+        Set<String> terms = new HashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String term : TERM_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (term.length() >= MIN_TERM_LENGTH) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private record OpenRequest(long requesterId, Set<String> terms) {
+    }
+}
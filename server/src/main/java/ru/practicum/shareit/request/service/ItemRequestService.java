@@ -1,5 +1,8 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestPostDto;
 import ru.practicum.shareit.request.dto.ItemRequestSimpleDto;
 import ru.practicum.shareit.request.dto.ItemRequestWithResponsesDto;
@@ -9,9 +12,13 @@ import java.util.Collection;
 public interface ItemRequestService {
     ItemRequestSimpleDto createRequest(ItemRequestPostDto itemRequestPostDto, long userId);
 
-    Collection<ItemRequestWithResponsesDto> getUserRequests(long userId);
+    Collection<ItemRequestWithResponsesDto> getUserRequests(long userId, ItemRequestPageRequest page);
 
     ItemRequestWithResponsesDto getByIdAndRequesterId(long itemRequestId, long userId);
 
-    Collection<ItemRequestSimpleDto> getAllRequests();
+    Collection<ItemRequestSimpleDto> getAllRequests(long userId, ItemRequestPageRequest page);
+
+    void recordMatches(Item item);
+
+    Collection<ItemRequestMatchDto> getMatches(long itemRequestId, long userId);
 }
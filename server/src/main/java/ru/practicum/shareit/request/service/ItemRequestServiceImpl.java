@@ -5,19 +5,33 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.error.ItemRequestNotFoundException;
-import ru.practicum.shareit.error.UserNotFoundException;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestPostDto;
+import ru.practicum.shareit.request.dto.ItemRequestResponseView;
 import ru.practicum.shareit.request.dto.ItemRequestSimpleDto;
 import ru.practicum.shareit.request.dto.ItemRequestWithResponsesDto;
+import ru.practicum.shareit.request.dto.RequestMatchCandidate;
+import ru.practicum.shareit.request.dto.ResponseOnItemRequestDto;
 import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.request.entity.ItemRequestMatch;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.repository.ItemRequestMatchRepository;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.entity.User;
-import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.RequestUserResolver;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -26,14 +40,15 @@ import java.util.Collection;
 public class ItemRequestServiceImpl implements ItemRequestService {
     ItemRequestMapper mapper;
     ItemRequestRepository itemRequestRepository;
-    UserRepository userRepository;
+    ItemRequestMatchRepository matchRepository;
+    ItemRequestMatcher matcher;
+    RequestUserResolver userResolver;
 
     @Override
     public ItemRequestSimpleDto createRequest(ItemRequestPostDto itemRequestPostDto, long userId) {
         log.debug("[SERVER | SERVICE] createRequest called with userId: {}", userId);
 
-        User requester = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+        User requester = userResolver.getReference(userId);
 
         ItemRequest itemRequest = mapper.toEntity(itemRequestPostDto);
         itemRequest.setCreated(LocalDateTime.now());
@@ -47,21 +62,37 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     @Override
-    public Collection<ItemRequestWithResponsesDto> getUserRequests(long userId) {
-        log.debug("[SERVER | SERVICE] getUserRequests called with userId: {}", userId);
+    @Transactional(readOnly = true)
+    public Collection<ItemRequestWithResponsesDto> getUserRequests(long userId, ItemRequestPageRequest page) {
+        log.debug("[SERVER | SERVICE] getUserRequests called with userId: {}, page: {}", userId, page);
 
-        if (!userRepository.existsById(userId)) {
-            throw new UserNotFoundException(userId);
-        }
+        userResolver.requireExists(userId);
 
-        Collection<ItemRequest> requests = itemRequestRepository.findAllByRequesterIdOrderByCreatedDesc(userId);
+        // Первая выборка - страница запросов, вторая - ответы на все запросы страницы; собираются в памяти
+        List<ItemRequestSimpleDto> requests = itemRequestRepository.findRequesterRequests(userId, page);
         log.debug("[SERVER | SERVICE] Found {} requests for userId: {}", requests.size(), userId);
-        log.debug("[SERVER | SERVICE] Requests for user before mapping: {}", requests);
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> requestIds = requests.stream()
+                .map(ItemRequestSimpleDto::getId)
+                .toList();
+        Map<Long, List<ResponseOnItemRequestDto>> responsesByRequestId = new HashMap<>();
+        for (ItemRequestResponseView response : itemRequestRepository.findResponsesByRequestIds(requestIds)) {
+            responsesByRequestId.computeIfAbsent(response.requestId(), id -> new ArrayList<>())
+                    .add(mapper.toResponseOnRequest(response));
+        }
+        log.debug("[SERVER | SERVICE] Found responses for {} of {} requests", responsesByRequestId.size(), requests.size());
 
-        return mapper.toDetailedResponseList(requests);
+        return requests.stream()
+                .map(request -> mapper.toDetailedResponse(request,
+                        responsesByRequestId.getOrDefault(request.getId(), List.of())))
+                .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ItemRequestWithResponsesDto getByIdAndRequesterId(long requestId, long userId) {
         log.debug("[SERVER | SERVICE] getByIdAndRequesterId called with requestId: {}, userId: {}", requestId, userId);
 
@@ -74,12 +105,57 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     @Override
-    public Collection<ItemRequestSimpleDto> getAllRequests() {
-        log.debug("[SERVER | SERVICE] getAllOtherRequests called");
+    @Transactional(readOnly = true)
+    public Collection<ItemRequestSimpleDto> getAllRequests(long userId, ItemRequestPageRequest page) {
+        log.debug("[SERVER | SERVICE] getAllOtherRequests called with userId: {}, page: {}", userId, page);
+
+        List<ItemRequestSimpleDto> requests = itemRequestRepository.findOtherUsersRequests(userId, page);
+        log.debug("[SERVER | SERVICE] Found {} requests of other users for userId: {}", requests.size(), userId);
+
+        return requests;
+    }
+
+    // Вызывается в транзакции создания вещи: совпадения сохраняются вместе с ней
+    @Override
+    public void recordMatches(Item item) {
+        if (!Boolean.TRUE.equals(item.getAvailable())) {
+            return;
+        }
+        List<RequestMatchCandidate> candidates = matcher.match(
+                item.getOwner().getId(), item.getName(), item.getDescription());
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // Индекс может отставать от БД: оставляются только существующие запросы без ответов
+        Set<Long> openIds = new HashSet<>(itemRequestRepository.findOpenIdsByIds(
+                candidates.stream().map(RequestMatchCandidate::requestId).toList()));
+        LocalDateTime now = LocalDateTime.now();
+        List<ItemRequestMatch> matches = candidates.stream()
+                .filter(candidate -> openIds.contains(candidate.requestId()))
+                .map(candidate -> ItemRequestMatch.builder()
+                        .request(itemRequestRepository.getReferenceById(candidate.requestId()))
+                        .item(item)
+                        .score(candidate.score())
+                        .created(now)
+                        .build())
+                .toList();
+        matchRepository.saveAll(matches);
+        log.debug("[SERVER | SERVICE] Recorded {} request matches for itemId: {}", matches.size(), item.getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<ItemRequestMatchDto> getMatches(long requestId, long userId) {
+        log.debug("[SERVER | SERVICE] getMatches called with requestId: {}, userId: {}", requestId, userId);
 
-        Collection<ItemRequest> requests = itemRequestRepository.findAllByOrderByCreatedDesc();
-        log.debug("[SERVER | SERVICE] Found {} requests created", requests.size());
+        // Подобранные вещи видит только автор запроса
+        if (!itemRequestRepository.existsByIdAndRequesterId(requestId, userId)) {
+            throw new ItemRequestNotFoundException(requestId);
+        }
 
-        return mapper.toSimpleResponseList(requests);
+        List<ItemRequestMatchDto> matches = matchRepository.findMatchesByRequestId(requestId);
+        log.debug("[SERVER | SERVICE] Found {} matches for requestId: {}", matches.size(), requestId);
+        return matches;
     }
-}
\ No newline at end of file
+}
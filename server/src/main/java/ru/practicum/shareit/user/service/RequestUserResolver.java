@@ -0,0 +1,70 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import ru.practicum.shareit.error.UserNotFoundException;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// Проверяет пользователя из заголовка X-Sharer-User-Id один раз за HTTP-запрос: проверенные id хранятся в атрибутах
+// запроса, повторные проверки в том же запросе в таблицу users не ходят. Вне HTTP-запроса проверка выполняется каждый раз
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestUserResolver {
+    private static final String VERIFIED_USERS_ATTRIBUTE = RequestUserResolver.class.getName() + ".VERIFIED_USERS";
+
+    private final UserRepository userRepository;
+
+    public void requireExists(long userId) {
+        Set<Long> verifiedUsers = verifiedUsers();
+        if (verifiedUsers != null && verifiedUsers.contains(userId)) {
+            log.trace("[SERVER | USER RESOLVER] User with id = {} already verified in this request", userId);
+            return;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        if (verifiedUsers != null) {
+            verifiedUsers.add(userId);
+        }
+    }
+
+    // Ссылка на проверенного пользователя для связей сущностей: строка пользователя при этом не загружается
+    public User getReference(long userId) {
+        requireExists(userId);
+        return userRepository.getReferenceById(userId);
+    }
+
+    // Полная загрузка, когда данные пользователя нужны в ответе
+    public User getUser(long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+        Set<Long> verifiedUsers = verifiedUsers();
+        if (verifiedUsers != null) {
+            verifiedUsers.add(userId);
+        }
+        return user;
+    }
+
+    // null вне HTTP-запроса: проверенных пользователей запоминать негде
+    @SuppressWarnings("unchecked")
+    private static Set<Long> verifiedUsers() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Set<Long> verifiedUsers = (Set<Long>) attributes.getAttribute(VERIFIED_USERS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (verifiedUsers == null) {
+            verifiedUsers = new HashSet<>();
+            attributes.setAttribute(VERIFIED_USERS_ATTRIBUTE, verifiedUsers, RequestAttributes.SCOPE_REQUEST);
+        }
+        return verifiedUsers;
+    }
+}
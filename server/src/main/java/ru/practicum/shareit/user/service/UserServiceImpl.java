@@ -1,17 +1,30 @@
 package ru.practicum.shareit.user.service;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ru.practicum.shareit.error.EmailAlreadyExistsException;
 import ru.practicum.shareit.error.UserNotFoundException;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+import ru.practicum.shareit.outbox.service.OutboxWriter;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserResponseDto;
 import ru.practicum.shareit.user.entity.User;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import static lombok.AccessLevel.PRIVATE;
 
 @Service
@@ -20,10 +33,14 @@ import static lombok.AccessLevel.PRIVATE;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     UserRepository userRepository;
+    ItemRepository itemRepository;
     UserMapper userMapper;
     EmailValidator emailValidator;
+    EntityManagerFactory entityManagerFactory;
+    OutboxWriter outboxWriter;
 
     @Override
+    @Transactional
     public UserResponseDto createUser(UserRequestDto userRequestDto) throws EmailAlreadyExistsException {
         String email = userRequestDto.getEmail();
         if (userRepository.existsByEmailIgnoreCase(email)) {
@@ -34,10 +51,13 @@ public class UserServiceImpl implements UserService {
         User user = userMapper.toUser(userRequestDto);
         User savedUser = userRepository.save(user);
         log.info("User created with id {}: {}", savedUser.getId(), savedUser);
-        return userMapper.toDto(savedUser);
+        UserResponseDto response = userMapper.toDto(savedUser);
+        outboxWriter.append(OutboxEventType.USER_CREATED, savedUser.getId(), response);
+        return response;
     }
 
     @Override
+    @Transactional
     public UserResponseDto updateUser(UserRequestDto userRequestDto, long userId) {
         // Поиск в БД обновляемого пользователя
         User userForUpdate = userRepository.findById(userId)
@@ -63,10 +83,13 @@ public class UserServiceImpl implements UserService {
         // Логирование успешного обновления
         log.info("User with id = {} was successfully updated", userId);
 
-        return userMapper.toDto(updatedUser);
+        UserResponseDto response = userMapper.toDto(updatedUser);
+        outboxWriter.append(OutboxEventType.USER_UPDATED, userId, response);
+        return response;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserResponseDto getUserById(long userId) {
         User userFound = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
@@ -76,7 +99,28 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public void removeUserById(long userId) {
-        userRepository.deleteById(userId);
+        Optional<User> user = userRepository.findById(userId);
+        if (user.isEmpty()) {
+            log.info("User with id = {} not found, nothing to remove", userId);
+            return;
+        }
+        // Вещи пользователя удаляются каскадом в БД в обход Hibernate, поэтому их копии в кэше второго уровня
+        // сбрасываются явно - только те, что удаляются вместе с ним
+        List<Long> deletedItemIds = itemRepository.findIdsDeletedWithUser(userId);
+        userRepository.delete(user.get());
+        outboxWriter.append(OutboxEventType.USER_DELETED, userId, Map.of("id", userId));
+
+        // До коммита параллельное чтение еще видит удаляемые строки и может вернуть их в кэш,
+        // поэтому сброс выполняется после коммита
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache cache = entityManagerFactory.getCache();
+                deletedItemIds.forEach(itemId -> cache.evict(Item.class, itemId));
+            }
+        });
+        log.info("User with id = {} was removed together with {} items", userId, deletedItemIds.size());
     }
 }
\ No newline at end of file
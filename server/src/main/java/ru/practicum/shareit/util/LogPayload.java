@@ -0,0 +1,59 @@
+package ru.practicum.shareit.util;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+// Аргумент лога для больших данных: строка строится только в toString(), то есть когда SLF4J форматирует
+// сообщение включенного уровня. В строку попадают первые MAX_ELEMENTS элементов коллекции и не больше
+// MAX_LENGTH символов, остальное заменяется сводкой с общим размером
+public final class LogPayload {
+    static final int MAX_ELEMENTS = 10;
+    static final int MAX_LENGTH = 2_000;
+
+    private final Object payload;
+
+    private LogPayload(Object payload) {
+        this.payload = payload;
+    }
+
+    public static LogPayload of(Object payload) {
+        return new LogPayload(payload);
+    }
+
+    @Override
+    public String toString() {
+        if (payload instanceof Collection<?> collection) {
+            return renderCollection(collection);
+        }
+        return truncate(String.valueOf(payload));
+    }
+
+    private static String renderCollection(Collection<?> collection) {
+        StringBuilder rendered = new StringBuilder("[");
+        Iterator<?> iterator = collection.iterator();
+        int shown = 0;
+        while (iterator.hasNext() && shown < MAX_ELEMENTS && rendered.length() < MAX_LENGTH) {
+            if (shown > 0) {
+                rendered.append(", ");
+            }
+            rendered.append(iterator.next());
+            shown++;
+        }
+        if (rendered.length() > MAX_LENGTH) {
+            rendered.setLength(MAX_LENGTH);
+            rendered.append("...");
+        }
+        rendered.append(']');
+        if (shown < collection.size()) {
+            rendered.append(" (").append(shown).append(" of ").append(collection.size()).append(" shown)");
+        }
+        return rendered.toString();
+    }
+
+    private static String truncate(String rendered) {
+        if (rendered.length() <= MAX_LENGTH) {
+            return rendered;
+        }
+        return rendered.substring(0, MAX_LENGTH) + "... (" + rendered.length() + " chars)";
+    }
+}
@@ -1,8 +1,4 @@
-DROP TABLE IF EXISTS comments CASCADE;
-DROP TABLE IF EXISTS bookings CASCADE;
-DROP TABLE IF EXISTS items CASCADE;
-DROP TABLE IF EXISTS users CASCADE;
-DROP TABLE IF EXISTS requests CASCADE;
+-- Исходная схема. IF NOT EXISTS позволяет принять под управление БД, созданную прежним schema.sql
 
 CREATE TABLE IF NOT EXISTS users (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
@@ -42,6 +38,11 @@ CREATE TABLE IF NOT EXISTS bookings (
     CONSTRAINT unique_item_booker UNIQUE (item_id, booker_id)
 );
 
+CREATE INDEX IF NOT EXISTS idx_items_owner_id ON items (owner_id);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_item_period ON bookings (item_id, start_date, end_date);
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_id ON bookings (booker_id);
+
 CREATE TABLE IF NOT EXISTS comments (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     item_id BIGINT NOT NULL,
@@ -50,4 +51,4 @@ CREATE TABLE IF NOT EXISTS comments (
     text TEXT NOT NULL,
     CONSTRAINT FK_COMMENT_ITEM FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE,
     CONSTRAINT FK_COMMENT_AUTHOR FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
@@ -0,0 +1,2 @@
+-- Версия строки для оптимистической блокировки и compare-and-set переходов статуса
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
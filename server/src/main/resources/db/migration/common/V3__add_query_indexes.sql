@@ -0,0 +1,14 @@
+-- Бронирования арендатора: фильтр по booker_id и keyset-пагинация по (start_date, id)
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_start ON bookings (booker_id, start_date, id);
+
+-- Выборки WAITING/REJECTED
+CREATE INDEX IF NOT EXISTS idx_bookings_status ON bookings (status);
+
+-- Запросы пользователя, новые сверху
+CREATE INDEX IF NOT EXISTS idx_requests_requester_created ON requests (requester_id, created_at);
+
+-- Отзывы к вещам загружаются вместе с вещами
+CREATE INDEX IF NOT EXISTS idx_comments_item_id ON comments (item_id);
+
+-- Вещи, созданные в ответ на запрос
+CREATE INDEX IF NOT EXISTS idx_items_request_id ON items (request_id);
@@ -0,0 +1,2 @@
+-- Лента чужих запросов: порядок (created_at, id) от новых к старым и keyset-пагинация по нему
+CREATE INDEX IF NOT EXISTS idx_requests_created_id ON requests (created_at DESC, id DESC);
@@ -0,0 +1,14 @@
+-- Вещи, подобранные к открытым запросам при создании вещи
+CREATE TABLE IF NOT EXISTS request_matches (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    request_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    score DOUBLE PRECISION NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT uq_request_match UNIQUE (request_id, item_id),
+    CONSTRAINT FK_MATCH_REQUEST FOREIGN KEY (request_id) REFERENCES requests(id) ON DELETE CASCADE,
+    CONSTRAINT FK_MATCH_ITEM FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE
+);
+
+-- Каскадное удаление вещи
+CREATE INDEX IF NOT EXISTS idx_request_matches_item_id ON request_matches (item_id);
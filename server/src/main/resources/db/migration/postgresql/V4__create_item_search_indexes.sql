@@ -0,0 +1,9 @@
+-- Индексы полнотекстового поиска вещей (PostgresItemSearchRepository)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_items_search_vector ON items
+    USING GIN (to_tsvector('simple', name || ' ' || description)) WHERE is_available;
+CREATE INDEX IF NOT EXISTS idx_items_name_trgm ON items
+    USING GIN (lower(name) gin_trgm_ops) WHERE is_available;
+CREATE INDEX IF NOT EXISTS idx_items_description_trgm ON items
+    USING GIN (lower(description) gin_trgm_ops) WHERE is_available;
@@ -0,0 +1,2 @@
+-- Проверка занятости email без учета регистра (existsByEmailIgnoreCase) сравнивает upper(email)
+CREATE INDEX IF NOT EXISTS idx_users_email_upper ON users (upper(email));
@@ -0,0 +1,235 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.config.SqlStatementRecorder;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.outbox.repository.OutboxEventRepository;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
+import ru.practicum.shareit.request.repository.ItemRequestMatchRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Прогоняет запросы репозиториев на заполненной схеме из миграций и проверяет их планы через EXPLAIN:
+// ни один запрос не должен читать большие таблицы полным сканированием
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plans;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "ru.practicum.shareit.config.SqlStatementRecorder"
+})
+class RepositoryQueryPlanIntegrationTest {
+    private static final int USERS = 1000;
+    private static final int ITEMS = 2000;
+    private static final int BOOKINGS = 5000;
+
+    private static final Set<String> LARGE_TABLES = Set.of("users", "items", "bookings", "requests", "comments");
+    // Таблица, которую H2 читает без условия: tableScan или полный проход по индексу
+    private static final Pattern FULL_SCAN = Pattern.compile(
+            "\"public\"\\.\"(\\w+)\" \"\\w+\"\\s*/\\* public\\.[\\w.]+ \\*/", Pattern.CASE_INSENSITIVE);
+
+    // Проход по индексу в порядке ORDER BY с остановкой на FETCH читает не больше страницы
+    private static final Pattern INDEX_SORTED_PAGE = Pattern.compile(
+            "FETCH (FIRST|NEXT) \\?\\d+ ROWS ONLY\\s*/\\* index sorted \\*/", Pattern.CASE_INSENSITIVE);
+
+    // Запросы, для которых полное сканирование ожидаемо
+    private static final List<Pattern> EXPECTED_SCANS = List.of(
+            // upper(email) покрывает индекс по выражению, который создается только в PostgreSQL (V5)
+            Pattern.compile("upper\\(\\w+\\.email\\)", Pattern.CASE_INSENSITIVE));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private ItemRequestMatchRepository itemRequestMatchRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings", Long.class) < BOOKINGS) {
+            populate();
+        }
+        SqlStatementRecorder.STATEMENTS.clear();
+    }
+
+    @Test
+    void repositoryQueries_shouldNotScanLargeTables() {
+        runRepositoryQueries();
+
+        Set<String> statements = new LinkedHashSet<>(SqlStatementRecorder.STATEMENTS);
+        assertThat(statements).isNotEmpty();
+
+        List<String> violations = new ArrayList<>();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            if (INDEX_SORTED_PAGE.matcher(plan).find()) {
+                continue;
+            }
+            Matcher scan = FULL_SCAN.matcher(plan);
+            while (scan.find()) {
+                String table = scan.group(1).toLowerCase();
+                if (LARGE_TABLES.contains(table) && EXPECTED_SCANS.stream().noneMatch(p -> p.matcher(sql).find())) {
+                    violations.add(table + " <- " + plan);
+                }
+            }
+        }
+        assertThat(violations).isEmpty();
+    }
+
+    private void runRepositoryQueries() {
+        long userId = 1;
+        long itemId = 1;
+        LocalDateTime now = LocalDateTime.now();
+        BookingPageRequest firstPage = BookingPageRequest.of(null, 20);
+        BookingPageRequest nextPage = BookingPageRequest.of(now + ",100", 20);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingRepository.findById(1L);
+            bookingRepository.findByIdAndItemOwnerId(1, userId);
+            bookingRepository.existsByBookerId(userId);
+            bookingRepository.existsByItemOwnerId(userId);
+            bookingRepository.findByItemIdAndBookerId(itemId, userId);
+            bookingRepository.findLastAndNextApprovedByItemOwnerId(userId, now);
+            bookingRepository.existsOverlappingByItemId(itemId, now, now.plusDays(1));
+            bookingRepository.findStatusById(1);
+            bookingRepository.findStatusesForUpdateByIdsAndItemOwnerId(List.of(1L, 2L, 3L), userId);
+            bookingRepository.updateWaitingStatusByIdsAndItemOwnerId(List.of(1L, 2L, 3L), userId, BookingStatus.APPROVED);
+            bookingRepository.compareAndSetStatus(4, BookingStatus.WAITING, BookingStatus.REJECTED);
+            for (BookingFindStatus findStatus : BookingFindStatus.values()) {
+                bookingRepository.findViewsByBookerId(userId, findStatus, now, firstPage);
+                bookingRepository.findViewsByBookerId(userId, findStatus, now, nextPage);
+                bookingRepository.findViewsByItemOwnerId(userId, findStatus, now, firstPage);
+                bookingRepository.findViewsByItemOwnerId(userId, findStatus, now, nextPage);
+            }
+
+            itemRepository.findByIdAndOwnerId(itemId, userId);
+            itemRepository.findByIdForUpdate(itemId);
+            itemRepository.findAllByOwnerIdWithComments(userId);
+            itemRepository.findByIdWithComments(itemId);
+
+            itemRequestRepository.findRequesterRequests(userId, ItemRequestPageRequest.of(null, null, 20));
+            itemRequestRepository.findRequesterRequests(userId, ItemRequestPageRequest.of(null, now + ",100", 20));
+            itemRequestRepository.findResponsesByRequestIds(List.of(1L, 2L, 3L));
+            itemRequestRepository.existsByIdAndRequesterId(1, userId);
+            itemRequestRepository.findOpenIdsByIds(List.of(1L, 2L, 3L));
+            itemRequestMatchRepository.findMatchesByRequestId(1);
+            outboxEventRepository.findBatchForRelay(10);
+            itemRequestRepository.findByIdWithItems(1);
+            itemRequestRepository.findOtherUsersRequests(userId, ItemRequestPageRequest.of(null, null, 20));
+            itemRequestRepository.findOtherUsersRequests(userId, ItemRequestPageRequest.of(null, now + ",100", 20));
+
+            userRepository.existsById(userId);
+            userRepository.existsByEmailIgnoreCase("user-1@example.com");
+
+            status.setRollbackOnly();
+        });
+    }
+
+    // Значения параметров на выбор индекса в H2 не влияют, важны только их типы
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement statement) -> {
+            ParameterMetaData parameters = statement.getParameterMetaData();
+            for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                switch (parameters.getParameterType(i)) {
+                    case Types.TIMESTAMP -> statement.setTimestamp(i, Timestamp.valueOf(LocalDateTime.now()));
+                    case Types.VARCHAR, Types.CHAR -> statement.setString(i, BookingStatus.WAITING.name());
+                    case Types.BOOLEAN -> statement.setBoolean(i, true);
+                    default -> statement.setLong(i, 1);
+                }
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        });
+    }
+
+    private void populate() {
+        jdbcTemplate.batchUpdate("INSERT INTO users (name, email) VALUES (?, ?)", range(USERS),
+                100, (statement, i) -> {
+                    statement.setString(1, "User " + i);
+                    statement.setString(2, "user-" + i + "@example.com");
+                });
+        jdbcTemplate.batchUpdate("INSERT INTO requests (description, created_at, requester_id) VALUES (?, ?, ?)",
+                range(USERS), 100, (statement, i) -> {
+                    statement.setString(1, "Request " + i);
+                    statement.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now().minusHours(i)));
+                    statement.setLong(3, i % USERS + 1);
+                });
+        jdbcTemplate.batchUpdate("INSERT INTO items (name, description, is_available, owner_id, request_id) "
+                + "VALUES (?, ?, ?, ?, ?)", range(ITEMS), 100, (statement, i) -> {
+            statement.setString(1, "Item " + i);
+            statement.setString(2, "Description " + i);
+            statement.setBoolean(3, i % 3 != 0);
+            statement.setLong(4, i % USERS + 1);
+            if (i % 10 == 0) {
+                statement.setLong(5, i % USERS + 1);
+            } else {
+                statement.setNull(5, Types.BIGINT);
+            }
+        });
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (item_id, booker_id, start_date, end_date, status) "
+                + "VALUES (?, ?, ?, ?, ?)", range(BOOKINGS), 100, (statement, i) -> {
+            LocalDateTime start = LocalDateTime.now().plusDays(i % 60 - 30);
+            statement.setLong(1, i % ITEMS + 1);
+            statement.setLong(2, (i / ITEMS + i) % USERS + 1);
+            statement.setTimestamp(3, Timestamp.valueOf(start));
+            statement.setTimestamp(4, Timestamp.valueOf(start.plusDays(2)));
+            statement.setString(5, BookingStatus.values()[i % BookingStatus.values().length].name());
+        });
+        jdbcTemplate.batchUpdate("INSERT INTO comments (item_id, author_id, created_at, text) VALUES (?, ?, ?, ?)",
+                range(ITEMS), 100, (statement, i) -> {
+                    statement.setLong(1, i % ITEMS + 1);
+                    statement.setLong(2, i % USERS + 1);
+                    statement.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+                    statement.setString(4, "Comment " + i);
+                });
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+        return values;
+    }}
@@ -0,0 +1,283 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.comment.dto.CommentPostDto;
+import ru.practicum.shareit.comment.entity.Comment;
+import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.comment.service.CommentService;
+import ru.practicum.shareit.config.SqlStatementBudget;
+import ru.practicum.shareit.config.SqlStatementBudgetExtension;
+import ru.practicum.shareit.item.dto.ItemPatchDto;
+import ru.practicum.shareit.item.dto.ItemPostDto;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
+import ru.practicum.shareit.request.dto.ItemRequestPostDto;
+import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserRequestDto;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.EmailValidator;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Каждый публичный метод сервисов вызывается на данных, где у каждой сущности больше связанных строк,
+// чем бюджет операторов: чтение ленивой связи в цикле (N+1) сразу выходит за бюджет
+@SpringBootTest
+@ExtendWith(SqlStatementBudgetExtension.class)
+@SqlStatementBudget(ServiceStatementBudgetIntegrationTest.BUDGET)
+class ServiceStatementBudgetIntegrationTest {
+    static final int BUDGET = 5;
+    private static final int ROWS = 3 * BUDGET;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EmailValidator emailValidator;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    private User owner;
+    private User booker;
+    private User requester;
+    private final List<User> authors = new ArrayList<>();
+    private final List<Item> items = new ArrayList<>();
+    private final List<Booking> waitingBookings = new ArrayList<>();
+    private final List<ItemRequest> requests = new ArrayList<>();
+
+    // У владельца ROWS вещей, каждая отвечает на свой запрос, у каждой свой автор отзыва с завершенным
+    // бронированием и ожидающее подтверждения бронирование одного арендатора
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Owner", "owner-" + System.nanoTime() + "@example.com"));
+        booker = userRepository.save(new User(null, "Booker", "booker-" + System.nanoTime() + "@example.com"));
+        requester = userRepository.save(
+                new User(null, "Requester", "requester-" + System.nanoTime() + "@example.com"));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ROWS; i++) {
+            User author = userRepository.save(
+                    new User(null, "Author " + i, "author-" + i + "-" + System.nanoTime() + "@example.com"));
+            ItemRequest request = itemRequestRepository.save(ItemRequest.builder()
+                    .description("Need a drill " + i)
+                    .created(now.minusDays(1).plusMinutes(i))
+                    .requester(requester)
+                    .build());
+            Item item = itemRepository.save(Item.builder()
+                    .name("Drill " + i)
+                    .description("Cordless drill " + i)
+                    .available(true)
+                    .owner(owner)
+                    .request(request)
+                    .build());
+            bookingRepository.save(Booking.builder()
+                    .booker(author)
+                    .item(item)
+                    .start(now.minusDays(3))
+                    .end(now.minusDays(2))
+                    .status(BookingStatus.APPROVED)
+                    .build());
+            waitingBookings.add(bookingRepository.save(Booking.builder()
+                    .booker(booker)
+                    .item(item)
+                    .start(now.plusDays(1))
+                    .end(now.plusDays(2))
+                    .status(BookingStatus.WAITING)
+                    .build()));
+            commentRepository.save(new Comment(null, item, author, "Great drill " + i, now.minusDays(1)));
+            authors.add(author);
+            items.add(item);
+            requests.add(request);
+        }
+    }
+
+    @Test
+    void createUser() {
+        userService.createUser(new UserRequestDto("New user", "new-" + System.nanoTime() + "@example.com"));
+    }
+
+    @Test
+    void updateUser() {
+        userService.updateUser(new UserRequestDto("Renamed", "renamed-" + System.nanoTime() + "@example.com"),
+                owner.getId());
+    }
+
+    @Test
+    void getUserById() {
+        userService.getUserById(owner.getId());
+    }
+
+    @Test
+    void removeUserById() {
+        User user = userRepository.save(new User(null, "Removed", "removed-" + System.nanoTime() + "@example.com"));
+
+        userService.removeUserById(user.getId());
+    }
+
+    @Test
+    void isEmailTaken() {
+        assertThat(emailValidator.isEmailTaken(owner.getEmail())).isTrue();
+    }
+
+    @Test
+    void createItemByUser() {
+        itemService.createItemByUser(owner.getId(), new ItemPostDto("Drill", "Another drill", true, null));
+    }
+
+    @Test
+    void createItemOnRequest() {
+        itemService.createItemOnRequest(owner.getId(), requests.get(0).getId(),
+                new ItemPostDto("Drill", "Another drill", true, requests.get(0).getId()));
+    }
+
+    @Test
+    void updateItemByIdAndOwnerId() {
+        itemService.updateItemByIdAndOwnerId(owner.getId(), items.get(0).getId(),
+                new ItemPatchDto("Renamed drill", null, null));
+    }
+
+    @Test
+    void getOwnerItemsWithComments() {
+        assertThat(itemService.getOwnerItemsWithComments(owner.getId())).hasSize(ROWS);
+    }
+
+    @Test
+    void getItemWithCommentsById() {
+        itemService.getItemWithCommentsById(items.get(0).getId(), owner.getId());
+    }
+
+    @Test
+    void searchUserItemsBySearchText() {
+        // Вещи предыдущих тестов тоже находятся, поэтому проверяется только нижняя граница
+        assertThat(itemService.searchUserItemsBySearchText(booker.getId(), "drill", 0, 100))
+                .hasSizeGreaterThanOrEqualTo(ROWS);
+    }
+
+    @Test
+    void createBooking() {
+        User renter = userRepository.save(new User(null, "Renter", "renter-" + System.nanoTime() + "@example.com"));
+        LocalDateTime start = LocalDateTime.now().plusDays(5);
+
+        bookingService.createBooking(new BookingRequestDto(items.get(0).getId(), start, start.plusDays(1)),
+                renter.getId());
+    }
+
+    @Test
+    void approveBooking() {
+        bookingService.approveBooking(waitingBookings.get(0).getId(), owner.getId(), true);
+    }
+
+    @Test
+    void approveBookings() {
+        List<BookingApprovalDto> decisions = waitingBookings.stream()
+                .map(booking -> new BookingApprovalDto(booking.getId(), true))
+                .toList();
+
+        assertThat(bookingService.approveBookings(decisions, owner.getId())).hasSize(ROWS);
+    }
+
+    @Test
+    void getAllByRenterIdAndFindStatus() {
+        assertThat(bookingService.getAllByRenterIdAndFindStatus(booker.getId(), BookingFindStatus.ALL,
+                BookingPageRequest.of(null, null))).hasSize(ROWS);
+    }
+
+    @Test
+    void getAllByOwnerIdAndFindStatus() {
+        assertThat(bookingService.getAllByOwnerIdAndFindStatus(owner.getId(), BookingFindStatus.ALL,
+                BookingPageRequest.of(null, null))).hasSize(2 * ROWS);
+    }
+
+    @Test
+    void getBookingByIdAndUserId() {
+        bookingService.getBookingByIdAndUserId(waitingBookings.get(0).getId(), booker.getId());
+    }
+
+    @Test
+    void subscribeToStatusEvents() {
+        bookingService.subscribeToStatusEvents(booker.getId()).complete();
+    }
+
+    @Test
+    void createComment() {
+        commentService.createComment(new CommentPostDto("Still great"), authors.get(0).getId(), items.get(0).getId());
+    }
+
+    @Test
+    void createRequest() {
+        itemRequestService.createRequest(new ItemRequestPostDto("Need a ladder"), requester.getId());
+    }
+
+    @Test
+    void getUserRequests() {
+        assertThat(itemRequestService.getUserRequests(requester.getId(), ItemRequestPageRequest.of(null, null, null)))
+                .hasSize(ROWS);
+    }
+
+    @Test
+    void getByIdAndRequesterId() {
+        itemRequestService.getByIdAndRequesterId(requests.get(0).getId(), requester.getId());
+    }
+
+    @Test
+    void getAllRequests() {
+        assertThat(itemRequestService.getAllRequests(owner.getId(), ItemRequestPageRequest.of(null, null, null)))
+                .hasSizeGreaterThanOrEqualTo(ROWS);
+    }
+
+    @Test
+    void recordMatches() {
+        itemRequestService.recordMatches(items.get(0));
+    }
+
+    @Test
+    void getMatches() {
+        itemRequestService.getMatches(requests.get(0).getId(), requester.getId());
+    }
+}
@@ -9,11 +9,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.booking.dto.BookingApprovalResult;
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
+import ru.practicum.shareit.booking.dto.BookingBulkApprovalRequestDto;
 import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.entity.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.error.InvalidBookingApprovalRequestException;
 import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.user.dto.UserResponseDto;
 import ru.practicum.shareit.util.Constants;
@@ -22,9 +29,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = BookingController.class)
@@ -65,6 +74,71 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.status").value(responseDto.getStatus().toString()));
     }
 
+    @Test
+    void testApproveBookings() throws Exception {
+        BookingBulkApprovalRequestDto requestDto = new BookingBulkApprovalRequestDto(List.of(
+                new BookingApprovalDto(1L, true),
+                new BookingApprovalDto(2L, false)));
+
+        Mockito.when(bookingService.approveBookings(requestDto.getDecisions(), 1L))
+                .thenReturn(List.of(
+                        new BookingApprovalResultDto(1L, BookingApprovalResult.APPROVED, BookingStatus.APPROVED),
+                        new BookingApprovalResultDto(2L, BookingApprovalResult.NOT_FOUND, null)));
+
+        mockMvc.perform(patch("/bookings/approvals")
+                        .header(USER_ID_HEADER, 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].result").value("APPROVED"))
+                .andExpect(jsonPath("$[1].result").value("NOT_FOUND"));
+    }
+
+    @Test
+    void testApproveBookings_whenDecisionHasNoApproval_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/bookings/approvals")
+                        .header(USER_ID_HEADER, 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"decisions\":[{\"bookingId\":1,\"approved\":null}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("decisions[0].approved violation :must not be null"));
+
+        Mockito.verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void testApproveBookings_whenDecisionsOrBookingIdAreMissing_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/bookings/approvals")
+                        .header(USER_ID_HEADER, 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/bookings/approvals")
+                        .header(USER_ID_HEADER, 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"decisions\":[{\"approved\":true},null]}"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void testApproveBookings_whenBookingIdRepeats_shouldReturnBadRequest() throws Exception {
+        BookingBulkApprovalRequestDto requestDto = new BookingBulkApprovalRequestDto(List.of(
+                new BookingApprovalDto(1L, true),
+                new BookingApprovalDto(1L, true)));
+        Mockito.when(bookingService.approveBookings(requestDto.getDecisions(), 1L))
+                .thenThrow(new InvalidBookingApprovalRequestException("Duplicate decision for booking with id = 1"));
+
+        mockMvc.perform(patch("/bookings/approvals")
+                        .header(USER_ID_HEADER, 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Duplicate decision for booking with id = 1"));
+    }
+
     @Test
     void testApproveBooking() throws Exception {
         BookingResponseDto responseDto = new BookingResponseDto(
@@ -98,7 +172,7 @@ class BookingControllerTest {
                 new ItemResponseDto(1L, "Item", "Description", true)
         ));
 
-        Mockito.when(bookingService.getAllByRenterIdAndFindStatus(1L, BookingFindStatus.ALL))
+        Mockito.when(bookingService.getAllByRenterIdAndFindStatus(1L, BookingFindStatus.ALL, BookingPageRequest.of(null, null)))
                 .thenReturn(responseDtos);
 
         mockMvc.perform(get("/bookings")
@@ -120,7 +194,7 @@ class BookingControllerTest {
                 new ItemResponseDto(1L, "Item", "Description", true)
         ));
 
-        Mockito.when(bookingService.getAllByOwnerIdAndFindStatus(1L, BookingFindStatus.ALL))
+        Mockito.when(bookingService.getAllByOwnerIdAndFindStatus(1L, BookingFindStatus.ALL, BookingPageRequest.of(null, null)))
                 .thenReturn(responseDtos);
 
         mockMvc.perform(get("/bookings/owner")
@@ -131,6 +205,32 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$[0].status").value(responseDtos.getFirst().getStatus().toString()));
     }
 
+    @Test
+    void testGetAllBookingsOfItemOwner_withCursor_shouldPassPageRequestToService() throws Exception {
+        LocalDateTime afterStart = LocalDateTime.of(2024, 11, 26, 10, 0);
+        Mockito.when(bookingService.getAllByOwnerIdAndFindStatus(
+                        1L, BookingFindStatus.ALL, new BookingPageRequest(afterStart, 15L, 20)))
+                .thenReturn(List.of());
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header(USER_ID_HEADER, 1L)
+                        .param("status", "ALL")
+                        .param("after", "2024-11-26T10:00:00,15")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void testGetAllBookingsOfItemOwner_withMalformedCursor_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/bookings/owner")
+                        .header(USER_ID_HEADER, 1L)
+                        .param("after", "yesterday"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verify(bookingService, Mockito.never()).getAllByOwnerIdAndFindStatus(anyLong(), any(), any());
+    }
+
     @Test
     void testGetBooking() throws Exception {
         BookingResponseDto responseDto = new BookingResponseDto(
@@ -151,4 +251,17 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.id").value(responseDto.getId()))
                 .andExpect(jsonPath("$.status").value(responseDto.getStatus().toString()));
     }
+
+    @Test
+    void testStreamBookingEvents() throws Exception {
+        Mockito.when(bookingService.subscribeToStatusEvents(1L)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/bookings/events")
+                        .header(USER_ID_HEADER, 1L)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        Mockito.verify(bookingService).subscribeToStatusEvents(1L);
+    }
 }
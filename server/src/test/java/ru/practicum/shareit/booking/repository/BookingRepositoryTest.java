@@ -5,7 +5,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.booking.entity.BookingStatus;
 import ru.practicum.shareit.item.entity.Item;
@@ -14,6 +16,7 @@ import ru.practicum.shareit.user.entity.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,19 +52,20 @@ class BookingRepositoryTest {
         // Создаем вещь
         item = itemRepository.save(new Item(null, "Item", "Item Description", true, owner, null, null, null));
 
-        // Создаем бронирования с разными пользователями
+        // Создаем бронирования с разными пользователями (с точностью, которую хранит БД)
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
         pastBooking = bookingRepository.save(new Booking(
                 null, booker1, item,
-                LocalDateTime.now().minusDays(5),
-                LocalDateTime.now().minusDays(3),
-                BookingStatus.APPROVED
+                now.minusDays(5),
+                now.minusDays(3),
+                BookingStatus.APPROVED, null
         ));
 
         currentBooking = bookingRepository.save(new Booking(
                 null, booker2, item,
-                LocalDateTime.now().plusDays(1),
-                LocalDateTime.now().plusDays(3),
-                BookingStatus.APPROVED
+                now.plusDays(1),
+                now.plusDays(3),
+                BookingStatus.APPROVED, null
         ));
     }
 
@@ -73,15 +77,39 @@ class BookingRepositoryTest {
     }
 
     @Test
-    void findByBookerIdAndEndBefore_shouldReturnPastBooking() {
-        List<Booking> result = bookingRepository.findByBookerIdAndEndBefore(
-                booker1.getId(),
-                LocalDateTime.now(),
-                Sort.by(Sort.Direction.ASC, "end")
-        );
+    void findViewsByBookerId_shouldReturnPastBooking_whenStatusIsPast() {
+        List<BookingView> result = bookingRepository.findViewsByBookerId(
+                booker1.getId(), BookingFindStatus.PAST, LocalDateTime.now(), BookingPageRequest.of(null, 10));
 
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getId()).isEqualTo(pastBooking.getId());
+        BookingView view = result.getFirst();
+        assertThat(view.id()).isEqualTo(pastBooking.getId());
+        assertThat(view.bookerId()).isEqualTo(booker1.getId());
+        assertThat(view.bookerEmail()).isEqualTo(booker1.getEmail());
+        assertThat(view.itemId()).isEqualTo(item.getId());
+        assertThat(view.itemName()).isEqualTo(item.getName());
+        assertThat(view.itemAvailable()).isTrue();
+    }
+
+    @Test
+    void findViewsByItemOwnerId_shouldReturnNextPageAfterCursor_whenScrollingByStartAndId() {
+        List<BookingView> firstPage = bookingRepository.findViewsByItemOwnerId(
+                owner.getId(), BookingFindStatus.ALL, LocalDateTime.now(), BookingPageRequest.of(null, 1));
+        assertThat(firstPage).extracting(BookingView::id).containsExactly(currentBooking.getId());
+
+        BookingView last = firstPage.getLast();
+        List<BookingView> secondPage = bookingRepository.findViewsByItemOwnerId(
+                owner.getId(), BookingFindStatus.ALL, LocalDateTime.now(),
+                BookingPageRequest.of(last.start() + "," + last.id(), 1));
+        assertThat(secondPage).extracting(BookingView::id).containsExactly(pastBooking.getId());
+    }
+
+    @Test
+    void findViewsByItemOwnerId_shouldFilterByStatus_whenStatusIsWaiting() {
+        List<BookingView> result = bookingRepository.findViewsByItemOwnerId(
+                owner.getId(), BookingFindStatus.WAITING, LocalDateTime.now(), BookingPageRequest.of(null, 10));
+
+        assertThat(result).isEmpty();
     }
 
     @Test
@@ -91,7 +119,7 @@ class BookingRepositoryTest {
                 null, booker1, item,
                 LocalDateTime.now().plusDays(2),
                 LocalDateTime.now().plusDays(4),
-                BookingStatus.APPROVED
+                BookingStatus.APPROVED, null
         );
 
         assertThatThrownBy(() -> bookingRepository.saveAndFlush(duplicateBooking))
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.error.InvalidBookingStatusForApprovingException;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ApproveBookingConcurrencyIntegrationTest {
+    private static final int THREADS_COUNT = 16;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Owner", "owner-" + System.nanoTime() + "@example.com"));
+        item = itemRepository.save(Item.builder()
+                .name("Drill")
+                .description("Popular drill")
+                .available(true)
+                .owner(owner)
+                .build());
+    }
+
+    @Test
+    void approveBooking_whenOwnerDecidesConcurrently_shouldApplyExactlyOneTransition() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            Booking booking = saveWaitingBooking(round);
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS_COUNT);
+            CountDownLatch startSignal = new CountDownLatch(1);
+            Queue<BookingResponseDto> winners = new ConcurrentLinkedQueue<>();
+            AtomicInteger rejectedByStatus = new AtomicInteger();
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS_COUNT; i++) {
+                // Половина потоков подтверждает, половина отклоняет одно и то же бронирование
+                boolean isApproved = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    try {
+                        winners.add(bookingService.approveBooking(booking.getId(), owner.getId(), isApproved));
+                    } catch (InvalidBookingStatusForApprovingException e) {
+                        rejectedByStatus.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            startSignal.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            assertThat(winners).hasSize(1);
+            assertThat(rejectedByStatus.get()).isEqualTo(THREADS_COUNT - 1);
+
+            Booking persisted = bookingRepository.findById(booking.getId()).orElseThrow();
+            assertThat(persisted.getStatus()).isEqualTo(winners.peek().getStatus());
+            assertThat(persisted.getVersion()).isEqualTo(booking.getVersion() + 1);
+        }
+    }
+
+    private Booking saveWaitingBooking(int index) {
+        User booker = userRepository.save(
+                new User(null, "Booker " + index, "booker-" + index + "-" + System.nanoTime() + "@example.com"));
+        return bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(LocalDateTime.now().plusDays(index + 1))
+                .end(LocalDateTime.now().plusDays(index + 2))
+                .status(BookingStatus.WAITING)
+                .build());
+    }
+}
@@ -0,0 +1,144 @@
+package ru.practicum.shareit.booking.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.booking.dto.BookingApprovalResult;
+import ru.practicum.shareit.booking.dto.BookingApprovalResultDto;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.outbox.repository.OutboxEventRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ApproveBookingsIntegrationTest {
+    private static final int QUEUE_SIZE = 200;
+
+    // Блокирующая выборка статусов + UPDATE для подтвержденных + UPDATE для отклоненных + INSERT событий в outbox
+    private static final long EXPECTED_STATEMENTS = 4;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User owner;
+    private User stranger;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Owner", "owner-" + System.nanoTime() + "@example.com"));
+        stranger = userRepository.save(new User(null, "Stranger", "stranger-" + System.nanoTime() + "@example.com"));
+        item = itemRepository.save(Item.builder()
+                .name("Item")
+                .description("Description")
+                .available(true)
+                .owner(owner)
+                .build());
+    }
+
+    @Test
+    void approveBookings_shouldDrainOwnerQueueWithConstantNumberOfStatements() {
+        List<BookingApprovalDto> decisions = new ArrayList<>();
+        for (int i = 0; i < QUEUE_SIZE; i++) {
+            Booking booking = saveBooking(BookingStatus.WAITING, i);
+            decisions.add(new BookingApprovalDto(booking.getId(), i % 2 == 0));
+        }
+        long outboxSizeBefore = outboxEventRepository.count();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<BookingApprovalResultDto> results = bookingService.approveBookings(decisions, owner.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(outboxEventRepository.count()).isEqualTo(outboxSizeBefore + QUEUE_SIZE);
+        assertThat(results).hasSize(QUEUE_SIZE);
+        for (int i = 0; i < QUEUE_SIZE; i++) {
+            BookingStatus expected = i % 2 == 0 ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+            assertThat(results.get(i).getStatus()).isEqualTo(expected);
+            assertThat(bookingRepository.findById(decisions.get(i).getBookingId()))
+                    .get()
+                    .extracting(Booking::getStatus)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void approveBookings_shouldReportEachBookingThatWasNotChanged() {
+        Booking waiting = saveBooking(BookingStatus.WAITING, 0);
+        Booking alreadyRejected = saveBooking(BookingStatus.REJECTED, 1);
+
+        Item strangerItem = itemRepository.save(Item.builder()
+                .name("Stranger item")
+                .description("Description")
+                .available(true)
+                .owner(stranger)
+                .build());
+        Booking foreign = bookingRepository.save(Booking.builder()
+                .booker(userRepository.save(new User(null, "Booker", "booker-" + System.nanoTime() + "@example.com")))
+                .item(strangerItem)
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .status(BookingStatus.WAITING)
+                .build());
+
+        List<BookingApprovalResultDto> results = bookingService.approveBookings(List.of(
+                new BookingApprovalDto(waiting.getId(), true),
+                new BookingApprovalDto(alreadyRejected.getId(), true),
+                new BookingApprovalDto(foreign.getId(), true),
+                new BookingApprovalDto(Long.MAX_VALUE, false)), owner.getId());
+
+        assertThat(results).extracting(BookingApprovalResultDto::getResult).containsExactly(
+                BookingApprovalResult.APPROVED,
+                BookingApprovalResult.NOT_WAITING,
+                BookingApprovalResult.NOT_FOUND,
+                BookingApprovalResult.NOT_FOUND);
+        assertThat(results.get(1).getStatus()).isEqualTo(BookingStatus.REJECTED);
+        assertThat(bookingRepository.findById(alreadyRejected.getId())).get()
+                .extracting(Booking::getStatus).isEqualTo(BookingStatus.REJECTED);
+        assertThat(bookingRepository.findById(foreign.getId())).get()
+                .extracting(Booking::getStatus).isEqualTo(BookingStatus.WAITING);
+    }
+
+    // Для каждого бронирования свой арендатор: пара (вещь, арендатор) уникальна
+    private Booking saveBooking(BookingStatus status, int index) {
+        User booker = userRepository.save(new User(null, "Booker " + index,
+                "booker-" + index + "-" + System.nanoTime() + "@example.com"));
+        return bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(LocalDateTime.now().plusDays(index + 1))
+                .end(LocalDateTime.now().plusDays(index + 2))
+                .status(status)
+                .build());
+    }
+}
@@ -8,10 +8,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import ru.practicum.shareit.booking.dto.BookingApprovalDto;
 import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.BookingStatusEvent;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.booking.entity.BookingStatus;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
@@ -20,9 +24,10 @@ import ru.practicum.shareit.error.*;
 import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.outbox.service.OutboxWriter;
 import ru.practicum.shareit.user.dto.UserResponseDto;
 import ru.practicum.shareit.user.entity.User;
-import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.RequestUserResolver;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
@@ -41,11 +46,20 @@ class BookingServiceTest {
     private ItemRepository itemRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private RequestUserResolver userResolver;
 
     @Mock
     private BookingMapper bookingMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookingEventStream bookingEventStream;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -54,6 +68,8 @@ class BookingServiceTest {
     private Booking booking;
     private BookingRequestDto bookingRequestDto;
     private BookingResponseDto bookingResponseDto;
+    private BookingView bookingView;
+    private final BookingPageRequest page = BookingPageRequest.of(null, null);
 
     @BeforeEach
     void setUp() {
@@ -78,21 +94,25 @@ class BookingServiceTest {
         booking.setStatus(BookingStatus.WAITING);
         booking.setItem(item);
         booking.setBooker(user);
+        booking.setVersion(0L);
 
         bookingRequestDto = new BookingRequestDto(1L, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
 
         bookingResponseDto = new BookingResponseDto(1L, booking.getStart(), booking.getEnd(), BookingStatus.WAITING,
                 new UserResponseDto(user.getId(), user.getName(), user.getEmail()),
                 new ItemResponseDto(item.getId(), item.getName(), item.getDescription(), item.getAvailable()));
+
+        bookingView = new BookingView(booking.getId(), booking.getStart(), booking.getEnd(), BookingStatus.WAITING,
+                user.getId(), user.getName(), user.getEmail(),
+                item.getId(), item.getName(), item.getDescription(), item.getAvailable());
     }
 
     @Test
     void createBooking_shouldReturnBookingResponseDto_whenBookingIsValid() {
         // Arrange
-        Mockito.when(itemRepository.findById(bookingRequestDto.getItemId()))
+        Mockito.when(itemRepository.findByIdForUpdate(bookingRequestDto.getItemId()))
                 .thenReturn(Optional.of(item));
-        Mockito.when(userRepository.findById(user.getId()))
-                .thenReturn(Optional.of(user));
+        Mockito.when(userResolver.getUser(user.getId())).thenReturn(user);
         Mockito.when(bookingMapper.toBooking(bookingRequestDto)).thenReturn(booking);
         Mockito.when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
         Mockito.when(bookingMapper.toResponse(booking)).thenReturn(bookingResponseDto);
@@ -104,14 +124,16 @@ class BookingServiceTest {
         Assertions.assertNotNull(result);
         Assertions.assertEquals(bookingResponseDto, result);
         Mockito.verify(bookingRepository, Mockito.times(1)).save(any(Booking.class));
+        Mockito.verify(eventPublisher).publishEvent(new BookingStatusEvent(
+                booking.getId(), item.getId(), user.getId(), user.getId(), BookingStatus.WAITING));
     }
 
     @Test
     void createBooking_shouldThrowUserNotFoundException_whenUserDoesNotExist() {
         item.setAvailable(false);
-        Mockito.when(itemRepository.findById(bookingRequestDto.getItemId()))
+        Mockito.when(itemRepository.findByIdForUpdate(bookingRequestDto.getItemId()))
                 .thenReturn(Optional.of(item));
-        Mockito.when(userRepository.findById(user.getId())).thenReturn(Optional.empty());
+        Mockito.when(userResolver.getUser(user.getId())).thenThrow(new UserNotFoundException(user.getId()));
 
         Assertions.assertThrows(UserNotFoundException.class,
                 () -> bookingService.createBooking(bookingRequestDto, user.getId()));
@@ -121,11 +143,10 @@ class BookingServiceTest {
 
     @Test
     void createBooking_shouldThrowUnavailableItemForBookingException_whenItemIsUnavailable() {
-        Mockito.when(userRepository.findById(user.getId()))
-                .thenReturn(Optional.of(user));
+        Mockito.when(userResolver.getUser(user.getId())).thenReturn(user);
         // Arrange
         item.setAvailable(false);
-        Mockito.when(itemRepository.findById(bookingRequestDto.getItemId()))
+        Mockito.when(itemRepository.findByIdForUpdate(bookingRequestDto.getItemId()))
                 .thenReturn(Optional.of(item));
 
         // Act & Assert
@@ -135,22 +156,58 @@ class BookingServiceTest {
         Mockito.verify(bookingRepository, Mockito.never()).save(any(Booking.class));
     }
 
+    @Test
+    void createBooking_shouldThrowBookingDatesOverlapException_whenItemAlreadyBookedForPeriod() {
+        // Arrange
+        Mockito.when(itemRepository.findByIdForUpdate(bookingRequestDto.getItemId()))
+                .thenReturn(Optional.of(item));
+        Mockito.when(userResolver.getUser(user.getId())).thenReturn(user);
+        Mockito.when(bookingRepository.existsOverlappingByItemId(
+                        item.getId(), bookingRequestDto.getStart(), bookingRequestDto.getEnd()))
+                .thenReturn(true);
+
+        // Act & Assert
+        Assertions.assertThrows(BookingDatesOverlapException.class,
+                () -> bookingService.createBooking(bookingRequestDto, user.getId()));
+
+        Mockito.verify(bookingRepository, Mockito.never()).save(any(Booking.class));
+    }
+
     @Test
     void approveBooking_shouldUpdateStatus_whenStatusIsValidAndOwnerApproves() {
         // Arrange
         Mockito.when(bookingRepository.findByIdAndItemOwnerId(booking.getId(), user.getId()))
                 .thenReturn(Optional.of(booking));
-        Mockito.when(bookingRepository.save(any(Booking.class)))
-                .thenReturn(booking);
+        Mockito.when(bookingRepository.compareAndSetStatus(booking.getId(), BookingStatus.WAITING, BookingStatus.APPROVED))
+                .thenReturn(1);
         Mockito.when(bookingMapper.toResponse(booking)).thenReturn(bookingResponseDto);
 
         // Act
         BookingResponseDto result = bookingService.approveBooking(booking.getId(), user.getId(), true);
 
-        // Assert
-        Assertions.assertNotNull(result);
-        Assertions.assertEquals(BookingStatus.APPROVED, booking.getStatus());
-        Mockito.verify(bookingRepository, Mockito.times(1)).save(booking);
+        // Assert: новый статус попадает в ответ, отсоединенная после UPDATE сущность не меняется
+        Assertions.assertEquals(BookingStatus.APPROVED, result.getStatus());
+        Assertions.assertEquals(BookingStatus.WAITING, booking.getStatus());
+        Assertions.assertEquals(0L, booking.getVersion());
+        Mockito.verify(bookingRepository, Mockito.never()).save(any(Booking.class));
+        Mockito.verify(eventPublisher).publishEvent(new BookingStatusEvent(
+                booking.getId(), item.getId(), user.getId(), user.getId(), BookingStatus.APPROVED));
+    }
+
+    @Test
+    void approveBooking_shouldThrowInvalidBookingStatusForApprovingException_whenConcurrentTransitionWon() {
+        // Arrange: на момент чтения статус WAITING, но UPDATE уже не находит строку в этом статусе
+        Mockito.when(bookingRepository.findByIdAndItemOwnerId(booking.getId(), user.getId()))
+                .thenReturn(Optional.of(booking));
+        Mockito.when(bookingRepository.compareAndSetStatus(booking.getId(), BookingStatus.WAITING, BookingStatus.REJECTED))
+                .thenReturn(0);
+        Mockito.when(bookingRepository.findStatusById(booking.getId())).thenReturn(Optional.of(BookingStatus.APPROVED));
+
+        // Act & Assert
+        Assertions.assertThrows(InvalidBookingStatusForApprovingException.class,
+                () -> bookingService.approveBooking(booking.getId(), user.getId(), false));
+
+        Mockito.verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -178,7 +235,40 @@ class BookingServiceTest {
         Assertions.assertThrows(InvalidBookingStatusForApprovingException.class,
                 () -> bookingService.approveBooking(booking.getId(), user.getId(), true));
 
-        Mockito.verify(bookingRepository, Mockito.never()).save(any(Booking.class));
+        Mockito.verify(bookingRepository, Mockito.never())
+                .compareAndSetStatus(anyLong(), any(BookingStatus.class), any(BookingStatus.class));
+    }
+
+    @Test
+    void approveBookings_shouldThrowInvalidBookingApprovalRequestException_whenDecisionsConflict() {
+        List<BookingApprovalDto> decisions = List.of(
+                new BookingApprovalDto(booking.getId(), true),
+                new BookingApprovalDto(booking.getId(), false));
+
+        Assertions.assertThrows(InvalidBookingApprovalRequestException.class,
+                () -> bookingService.approveBookings(decisions, user.getId()));
+
+        Mockito.verify(bookingRepository, Mockito.never())
+                .updateWaitingStatusByIdsAndItemOwnerId(anyCollection(), anyLong(), any(BookingStatus.class));
+    }
+
+    @Test
+    void approveBookings_shouldThrowInvalidBookingApprovalRequestException_whenBookingIdRepeats() {
+        List<BookingApprovalDto> decisions = List.of(
+                new BookingApprovalDto(booking.getId(), true),
+                new BookingApprovalDto(booking.getId(), true));
+
+        Assertions.assertThrows(InvalidBookingApprovalRequestException.class,
+                () -> bookingService.approveBookings(decisions, user.getId()));
+
+        Mockito.verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void approveBookings_shouldNotQueryDatabase_whenDecisionsAreEmpty() {
+        Assertions.assertTrue(bookingService.approveBookings(List.of(), user.getId()).isEmpty());
+
+        Mockito.verifyNoInteractions(bookingRepository);
     }
 
     @Test
@@ -204,256 +294,256 @@ class BookingServiceTest {
         Assertions.assertThrows(BookingNotFoundException.class,
                 () -> bookingService.getBookingByIdAndUserId(booking.getId(), user.getId()));
 
-        Mockito.verify(bookingMapper, Mockito.never()).toResponse(any());
+        Mockito.verify(bookingMapper, Mockito.never()).toResponse(any(Booking.class));
     }
 
     @Test
     void getAllByOwnerIdAndFindStatus_shouldReturnBookings_whenStatusIsCurrent() {
         // Arrange
-        Mockito.when(userRepository.existsById(user.getId())).thenReturn(true);
-        Mockito.when(bookingRepository.findCurrentByItemOwnerId(
-                        eq(user.getId()),
-                        any(LocalDateTime.class),
-                        eq(Sort.by("start").descending())))
-                .thenReturn(List.of(booking));
-        Mockito.when(bookingMapper.toResponseList(List.of(booking)))
+        Mockito.when(bookingRepository.existsByItemOwnerId(user.getId())).thenReturn(true);
+        Mockito.when(bookingRepository.findViewsByItemOwnerId(
+                        eq(user.getId()), eq(BookingFindStatus.CURRENT), any(LocalDateTime.class), eq(page)))
+                .thenReturn(List.of(bookingView));
+        Mockito.when(bookingMapper.toResponseListFromViews(List.of(bookingView)))
+                .thenReturn(List.of(bookingResponseDto));
+
+        // Act
+        Collection<BookingResponseDto> result =
+                bookingService.getAllByOwnerIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT, page);
+
+        // Assert
+        Assertions.assertNotNull(result);
+        Assertions.assertEquals(1, result.size());
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findViewsByItemOwnerId(eq(user.getId()), eq(BookingFindStatus.CURRENT), any(LocalDateTime.class), eq(page));
+    }
+
+    @Test
+    void getAllByOwnerIdAndFindStatus_shouldReturnBookings_whenStatusIsWaiting() {
+        // Arrange
+        Mockito.when(bookingRepository.existsByItemOwnerId(user.getId())).thenReturn(true);
+        Mockito.when(bookingRepository.findViewsByItemOwnerId(
+                        eq(user.getId()), eq(BookingFindStatus.WAITING), any(LocalDateTime.class), eq(page)))
+                .thenReturn(List.of(bookingView));
+        Mockito.when(bookingMapper.toResponseListFromViews(List.of(bookingView)))
                 .thenReturn(List.of(bookingResponseDto));
-        Mockito.when(bookingRepository.findByItemOwnerId(user.getId())).thenReturn(List.of(booking));
 
         // Act
-        Collection<BookingResponseDto> result = bookingService.getAllByOwnerIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT);
+        Collection<BookingResponseDto> result =
+                bookingService.getAllByOwnerIdAndFindStatus(user.getId(), BookingFindStatus.WAITING, page);
 
         // Assert
         Assertions.assertNotNull(result);
         Assertions.assertEquals(1, result.size());
         Mockito.verify(bookingRepository, Mockito.times(1))
-                .findCurrentByItemOwnerId(eq(user.getId()), any(LocalDateTime.class), eq(Sort.by("start").descending()));
+                .findViewsByItemOwnerId(eq(user.getId()), eq(BookingFindStatus.WAITING), any(LocalDateTime.class), eq(page));
     }
 
     @Test
     void getAllByOwnerIdAndFindStatus_shouldThrowUserNotFoundException_whenOwnerDoesNotExist() {
         // Arrange
-        Mockito.when(userRepository.existsById(eq(user.getId()))).thenReturn(false);
+        Mockito.doThrow(new UserNotFoundException(user.getId())).when(userResolver).requireExists(user.getId());
 
         // Act & Assert
         Assertions.assertThrows(UserNotFoundException.class,
-                () -> bookingService.getAllByOwnerIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT));
+                () -> bookingService.getAllByOwnerIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT, page));
 
-        Mockito.verify(bookingRepository, Mockito.never()).findByItemOwnerId(any(Long.class));
+        Mockito.verify(bookingRepository, Mockito.never()).existsByItemOwnerId(anyLong());
     }
 
     @Test
     void getAllByOwnerIdAndFindStatus_shouldReturnEmptyList_whenOwnerHasNoBookings() {
         // Arrange
-        Mockito.when(userRepository.existsById(user.getId())).thenReturn(true);
-        Mockito.when(bookingRepository.findByItemOwnerId(user.getId())).thenReturn(List.of(booking));
+        Mockito.when(bookingRepository.existsByItemOwnerId(user.getId())).thenReturn(true);
+        Mockito.when(bookingRepository.findViewsByItemOwnerId(
+                        eq(user.getId()), eq(BookingFindStatus.CURRENT), any(LocalDateTime.class), eq(page)))
+                .thenReturn(List.of());
+        Mockito.when(bookingMapper.toResponseListFromViews(List.of())).thenReturn(List.of());
 
         // Act
-        Collection<BookingResponseDto> result = bookingService.getAllByOwnerIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT);
+        Collection<BookingResponseDto> result = bookingService.getAllByOwnerIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT, page);
 
         // Assert
         Assertions.assertNotNull(result);
         Assertions.assertTrue(result.isEmpty());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findByItemOwnerId(user.getId());
+        Mockito.verify(bookingRepository, Mockito.times(1)).existsByItemOwnerId(user.getId());
     }
 
     @Test
-    void getAllByOwnerIdAndFindStatus_shouldThrowsUnauthorizedUserGetBookingsException_whenRequesterIsNotOwner() {
-        Mockito.when(userRepository.existsById(eq(user.getId()))).thenReturn(true);
-        Mockito.when(bookingRepository.findByItemOwnerId(eq(user.getId()))).thenReturn(List.of());
+    void getAllByOwnerIdAndFindStatus_shouldThrowUnauthorizedUserGetBookingsException_whenUserHasNoBookings() {
+        Mockito.when(bookingRepository.existsByItemOwnerId(user.getId())).thenReturn(false);
 
         Assertions.assertThrows(UnauthorizedUserGetBookingsException.class,
-                () -> bookingService.getAllByOwnerIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT));
+                () -> bookingService.getAllByOwnerIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT, page));
 
         Mockito.verify(bookingRepository, Mockito.never())
-                .findCurrentByBookerId(anyLong(), any(LocalDateTime.class), any(Sort.class));
+                .findViewsByItemOwnerId(anyLong(), any(BookingFindStatus.class), any(LocalDateTime.class), any(BookingPageRequest.class));
     }
 
     @Test
-    void getAllByOwnerIdAndFindStatus_shouldReturnBookings_whenFindStatusIsWaiting() {
+    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsCurrent() {
         // Arrange
-        Mockito.when(userRepository.existsById(user.getId())).thenReturn(true);
-        Mockito.when(bookingRepository.findByItemOwnerIdAndStatus(
-                        user.getId(), BookingStatus.WAITING, Sort.by("start").descending()))
-                .thenReturn(List.of(booking));
-        Mockito.when(bookingMapper.toResponseList(List.of(booking)))
+        Mockito.when(bookingRepository.existsByBookerId(user.getId())).thenReturn(true);
+        Mockito.when(bookingRepository.findViewsByBookerId(
+                        eq(user.getId()), eq(BookingFindStatus.CURRENT), any(LocalDateTime.class), eq(page)))
+                .thenReturn(List.of(bookingView));
+        Mockito.when(bookingMapper.toResponseListFromViews(List.of(bookingView)))
                 .thenReturn(List.of(bookingResponseDto));
-        Mockito.when(bookingRepository.findByItemOwnerId(user.getId())).thenReturn(List.of(booking));
 
         // Act
         Collection<BookingResponseDto> result =
-                bookingService.getAllByOwnerIdAndFindStatus(user.getId(), BookingFindStatus.WAITING);
+                bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT, page);
 
         // Assert
         Assertions.assertNotNull(result);
         Assertions.assertEquals(1, result.size());
         Mockito.verify(bookingRepository, Mockito.times(1))
-                .findByItemOwnerIdAndStatus(
-                        user.getId(),
-                        BookingStatus.WAITING,
-                        Sort.by("start").descending());
+                .findViewsByBookerId(eq(user.getId()), eq(BookingFindStatus.CURRENT), any(LocalDateTime.class), eq(page));
     }
 
     @Test
-    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsFuture() {
+    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsPast() {
         // Arrange
-        Mockito.when(userRepository.existsById(user.getId())).thenReturn(true);
-        Mockito.when(bookingMapper.toResponseList(List.of(booking)))
+        Mockito.when(bookingRepository.existsByBookerId(user.getId())).thenReturn(true);
+        Mockito.when(bookingRepository.findViewsByBookerId(
+                        eq(user.getId()), eq(BookingFindStatus.PAST), any(LocalDateTime.class), eq(page)))
+                .thenReturn(List.of(bookingView));
+        Mockito.when(bookingMapper.toResponseListFromViews(List.of(bookingView)))
                 .thenReturn(List.of(bookingResponseDto));
-        Mockito.when(bookingRepository.findByBookerIdAndStartAfter(
-                        eq(user.getId()),
-                        any(LocalDateTime.class),
-                        eq(Sort.by("start").descending())))
-                .thenReturn(List.of(booking));
-        Mockito.when(bookingRepository.findByBookerId(eq(user.getId()))).thenReturn(List.of(booking));
-
 
         // Act
-        Collection<BookingResponseDto> result = bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.FUTURE);
+        Collection<BookingResponseDto> result =
+                bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.PAST, page);
 
         // Assert
         Assertions.assertNotNull(result);
         Assertions.assertEquals(1, result.size());
         Mockito.verify(bookingRepository, Mockito.times(1))
-                .findByBookerIdAndStartAfter(eq(user.getId()), any(LocalDateTime.class), eq(Sort.by("start").descending()));
+                .findViewsByBookerId(eq(user.getId()), eq(BookingFindStatus.PAST), any(LocalDateTime.class), eq(page));
     }
 
     @Test
-    void getAllByRenterIdAndFindStatus_shouldThrowUserNotFoundException_whenRenterDoesNotExist() {
-        // Arrange
-        Mockito.when(userRepository.existsById(user.getId())).thenReturn(false);
-
-        // Act & Assert
-        Assertions.assertThrows(UserNotFoundException.class,
-                () -> bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.FUTURE));
-
-        Mockito.verify(bookingRepository, Mockito.never()).findByBookerId(any(Long.class));
-    }
-
-    @Test
-    void getAllByRenterIdAndFindStatus_shouldReturnEmptyList_whenRenterHasNoBookings() {
+    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsFuture() {
         // Arrange
-        Mockito.when(userRepository.existsById(user.getId())).thenReturn(true);
-        Mockito.when(bookingRepository.findByBookerId(user.getId())).thenReturn(List.of(booking));
+        Mockito.when(bookingRepository.existsByBookerId(user.getId())).thenReturn(true);
+        Mockito.when(bookingRepository.findViewsByBookerId(
+                        eq(user.getId()), eq(BookingFindStatus.FUTURE), any(LocalDateTime.class), eq(page)))
+                .thenReturn(List.of(bookingView));
+        Mockito.when(bookingMapper.toResponseListFromViews(List.of(bookingView)))
+                .thenReturn(List.of(bookingResponseDto));
 
         // Act
-        Collection<BookingResponseDto> result = bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.FUTURE);
+        Collection<BookingResponseDto> result =
+                bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.FUTURE, page);
 
         // Assert
         Assertions.assertNotNull(result);
-        Assertions.assertTrue(result.isEmpty());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findByBookerId(user.getId());
+        Assertions.assertEquals(1, result.size());
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findViewsByBookerId(eq(user.getId()), eq(BookingFindStatus.FUTURE), any(LocalDateTime.class), eq(page));
     }
 
     @Test
-    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsCurrent() {
+    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsWaiting() {
         // Arrange
-        Mockito.when(userRepository.existsById(user.getId())).thenReturn(true);
-        Mockito.when(bookingRepository.findCurrentByBookerId(eq(user.getId()), any(LocalDateTime.class), eq(Sort.by("start").descending())))
-                .thenReturn(List.of(booking));
-        Mockito.when(bookingMapper.toResponseList(List.of(booking)))
+        Mockito.when(bookingRepository.existsByBookerId(user.getId())).thenReturn(true);
+        Mockito.when(bookingRepository.findViewsByBookerId(
+                        eq(user.getId()), eq(BookingFindStatus.WAITING), any(LocalDateTime.class), eq(page)))
+                .thenReturn(List.of(bookingView));
+        Mockito.when(bookingMapper.toResponseListFromViews(List.of(bookingView)))
                 .thenReturn(List.of(bookingResponseDto));
-        Mockito.when(bookingRepository.findByBookerId(Mockito.eq(user.getId()))).thenReturn(List.of(new Booking()));
 
         // Act
-        Collection<BookingResponseDto> result = bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT);
+        Collection<BookingResponseDto> result =
+                bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.WAITING, page);
 
         // Assert
         Assertions.assertNotNull(result);
         Assertions.assertEquals(1, result.size());
         Mockito.verify(bookingRepository, Mockito.times(1))
-                .findCurrentByBookerId(eq(user.getId()), any(LocalDateTime.class), eq(Sort.by("start").descending()));
+                .findViewsByBookerId(eq(user.getId()), eq(BookingFindStatus.WAITING), any(LocalDateTime.class), eq(page));
     }
 
     @Test
-    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsPast() {
+    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsRejected() {
         // Arrange
-        Mockito.when(userRepository.existsById(user.getId())).thenReturn(true);
-        Mockito.when(bookingRepository.findByBookerIdAndEndBefore(eq(user.getId()), any(LocalDateTime.class), eq(Sort.by("start").descending())))
-                .thenReturn(List.of(booking));
-        Mockito.when(bookingMapper.toResponseList(List.of(booking)))
+        Mockito.when(bookingRepository.existsByBookerId(user.getId())).thenReturn(true);
+        Mockito.when(bookingRepository.findViewsByBookerId(
+                        eq(user.getId()), eq(BookingFindStatus.REJECTED), any(LocalDateTime.class), eq(page)))
+                .thenReturn(List.of(bookingView));
+        Mockito.when(bookingMapper.toResponseListFromViews(List.of(bookingView)))
                 .thenReturn(List.of(bookingResponseDto));
-        Mockito.when(bookingRepository.findByBookerId(Mockito.eq(user.getId()))).thenReturn(List.of(new Booking()));
 
         // Act
-        Collection<BookingResponseDto> result = bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.PAST);
+        Collection<BookingResponseDto> result =
+                bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.REJECTED, page);
 
         // Assert
         Assertions.assertNotNull(result);
         Assertions.assertEquals(1, result.size());
         Mockito.verify(bookingRepository, Mockito.times(1))
-                .findByBookerIdAndEndBefore(eq(user.getId()), any(LocalDateTime.class), eq(Sort.by("start").descending()));
+                .findViewsByBookerId(eq(user.getId()), eq(BookingFindStatus.REJECTED), any(LocalDateTime.class), eq(page));
     }
 
     @Test
-    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsWaiting() {
+    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsAll() {
         // Arrange
-        Mockito.when(userRepository.existsById(user.getId())).thenReturn(true);
-        Mockito.when(bookingRepository.findByBookerId(Mockito.eq(user.getId()))).thenReturn(List.of(new Booking()));
-        Mockito.when(bookingRepository.findByBookerIdAndStatus(eq(user.getId()), eq(BookingStatus.WAITING), eq(Sort.by("start").descending())))
-                .thenReturn(List.of(booking));
-        Mockito.when(bookingMapper.toResponseList(List.of(booking)))
+        Mockito.when(bookingRepository.existsByBookerId(user.getId())).thenReturn(true);
+        Mockito.when(bookingRepository.findViewsByBookerId(
+                        eq(user.getId()), eq(BookingFindStatus.ALL), any(LocalDateTime.class), eq(page)))
+                .thenReturn(List.of(bookingView));
+        Mockito.when(bookingMapper.toResponseListFromViews(List.of(bookingView)))
                 .thenReturn(List.of(bookingResponseDto));
 
         // Act
-        Collection<BookingResponseDto> result = bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.WAITING);
+        Collection<BookingResponseDto> result =
+                bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.ALL, page);
 
         // Assert
         Assertions.assertNotNull(result);
         Assertions.assertEquals(1, result.size());
         Mockito.verify(bookingRepository, Mockito.times(1))
-                .findByBookerIdAndStatus(eq(user.getId()), eq(BookingStatus.WAITING), eq(Sort.by("start").descending()));
+                .findViewsByBookerId(eq(user.getId()), eq(BookingFindStatus.ALL), any(LocalDateTime.class), eq(page));
     }
 
     @Test
-    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsRejected() {
+    void getAllByRenterIdAndFindStatus_shouldThrowUserNotFoundException_whenRenterDoesNotExist() {
         // Arrange
-        Mockito.when(userRepository.existsById(user.getId())).thenReturn(true);
-        Mockito.when(bookingRepository.findByBookerIdAndStatus(eq(user.getId()), eq(BookingStatus.REJECTED), eq(Sort.by("start").descending())))
-                .thenReturn(List.of(booking));
-        Mockito.when(bookingRepository.findByBookerId(Mockito.eq(user.getId()))).thenReturn(List.of(new Booking()));
-        Mockito.when(bookingMapper.toResponseList(List.of(booking)))
-                .thenReturn(List.of(bookingResponseDto));
+        Mockito.doThrow(new UserNotFoundException(user.getId())).when(userResolver).requireExists(user.getId());
 
-        // Act
-        Collection<BookingResponseDto> result = bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.REJECTED);
+        // Act & Assert
+        Assertions.assertThrows(UserNotFoundException.class,
+                () -> bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.FUTURE, page));
 
-        // Assert
-        Assertions.assertNotNull(result);
-        Assertions.assertEquals(1, result.size());
-        Mockito.verify(bookingRepository, Mockito.times(1))
-                .findByBookerIdAndStatus(eq(user.getId()), eq(BookingStatus.REJECTED), eq(Sort.by("start").descending()));
+        Mockito.verify(bookingRepository, Mockito.never()).existsByBookerId(anyLong());
     }
 
     @Test
-    void getAllByRenterIdAndFindStatus_shouldReturnBookings_whenStatusIsAll() {
+    void getAllByRenterIdAndFindStatus_shouldReturnEmptyList_whenRenterHasNoBookings() {
         // Arrange
-        Mockito.when(userRepository.existsById(user.getId())).thenReturn(true);
-        Mockito.when(bookingRepository.findByBookerId(eq(user.getId()), eq(Sort.by("start").descending())))
-                .thenReturn(List.of(booking));
-        Mockito.when(bookingRepository.findByBookerId(Mockito.eq(user.getId()))).thenReturn(List.of(new Booking()));
-        Mockito.when(bookingMapper.toResponseList(List.of(booking)))
-                .thenReturn(List.of(bookingResponseDto));
+        Mockito.when(bookingRepository.existsByBookerId(user.getId())).thenReturn(true);
+        Mockito.when(bookingRepository.findViewsByBookerId(
+                        eq(user.getId()), eq(BookingFindStatus.FUTURE), any(LocalDateTime.class), eq(page)))
+                .thenReturn(List.of());
+        Mockito.when(bookingMapper.toResponseListFromViews(List.of())).thenReturn(List.of());
 
         // Act
-        Collection<BookingResponseDto> result = bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.ALL);
+        Collection<BookingResponseDto> result = bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.FUTURE, page);
 
         // Assert
         Assertions.assertNotNull(result);
-        Assertions.assertEquals(1, result.size());
-        Mockito.verify(bookingRepository, Mockito.times(1))
-                .findByBookerId(eq(user.getId()), eq(Sort.by("start").descending()));
+        Assertions.assertTrue(result.isEmpty());
+        Mockito.verify(bookingRepository, Mockito.times(1)).existsByBookerId(user.getId());
     }
 
     @Test
-    void getAllByRenterIdAndFindStatus_shouldThrowUnauthorizedUserGetBookingsException_whenUserIsUnauthorized() {
-        Mockito.when(bookingRepository.findByBookerId(Mockito.eq(user.getId()))).thenReturn(List.of());
-        Mockito.when(userRepository.existsById(Mockito.eq(user.getId()))).thenReturn(true);
+    void getAllByRenterIdAndFindStatus_shouldThrowUnauthorizedUserGetBookingsException_whenUserHasNoBookings() {
+        Mockito.when(bookingRepository.existsByBookerId(user.getId())).thenReturn(false);
 
         Assertions.assertThrows(UnauthorizedUserGetBookingsException.class,
-                () -> bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT));
+                () -> bookingService.getAllByRenterIdAndFindStatus(user.getId(), BookingFindStatus.CURRENT, page));
 
-        Mockito.verify(bookingRepository, Mockito.never()).findCurrentByBookerId(anyLong(), any(LocalDateTime.class), any(Sort.class));
+        Mockito.verify(bookingRepository, Mockito.never())
+                .findViewsByBookerId(anyLong(), any(BookingFindStatus.class), any(LocalDateTime.class), any(BookingPageRequest.class));
     }
 }
-
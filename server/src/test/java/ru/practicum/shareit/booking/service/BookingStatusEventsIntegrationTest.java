@@ -0,0 +1,156 @@
+package ru.practicum.shareit.booking.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.BookingStatusEvent;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.Constants;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "server"})
+class BookingStatusEventsIntegrationTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingEventStream bookingEventStream;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final BlockingQueue<String> receivedData = new LinkedBlockingQueue<>();
+
+    private User owner;
+    private User booker;
+    private Item item;
+    private Stream<String> stream;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Owner", "owner-" + System.nanoTime() + "@example.com"));
+        booker = userRepository.save(new User(null, "Booker", "booker-" + System.nanoTime() + "@example.com"));
+        item = itemRepository.save(Item.builder()
+                .name("Drill")
+                .description("Popular drill")
+                .available(true)
+                .owner(owner)
+                .build());
+    }
+
+    @AfterEach
+    void closeStream() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Test
+    void streamBookingEvents_shouldPushCommittedCreateAndApproveToBooker() throws Exception {
+        subscribe(booker.getId());
+
+        BookingResponseDto booking = bookingService.createBooking(bookingRequest(1), booker.getId());
+        bookingService.approveBooking(booking.getId(), owner.getId(), true);
+
+        assertThat(nextEvent()).isEqualTo(new BookingStatusEvent(
+                booking.getId(), item.getId(), booker.getId(), owner.getId(), BookingStatus.WAITING));
+        assertThat(nextEvent()).isEqualTo(new BookingStatusEvent(
+                booking.getId(), item.getId(), booker.getId(), owner.getId(), BookingStatus.APPROVED));
+    }
+
+    @Test
+    void streamBookingEvents_whenTransactionRolledBack_shouldNotPushEvent() throws Exception {
+        subscribe(owner.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingService.createBooking(bookingRequest(1), booker.getId());
+            status.setRollbackOnly();
+        });
+        BookingResponseDto committed = bookingService.createBooking(bookingRequest(5), booker.getId());
+
+        // Первым приходит событие закоммиченного бронирования: событие откаченного отброшено
+        assertThat(nextEvent().bookingId()).isEqualTo(committed.getId());
+        assertThat(receivedData.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void streamBookingEvents_whenUserNotFound_shouldReturnNotFound() throws Exception {
+        // Ошибка отдается JSON-ом, поэтому клиент (и шлюз) должен принимать его наряду с text/event-stream
+        HttpResponse<String> response = httpClient.send(eventsRequest(Long.MAX_VALUE),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(404);
+    }
+
+    private void subscribe(long userId) throws Exception {
+        HttpResponse<Stream<String>> response = httpClient.send(eventsRequest(userId),
+                HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        stream = response.body();
+        Thread.ofVirtual().start(() -> stream
+                .filter(line -> line.startsWith("data:"))
+                .forEach(line -> receivedData.add(line.substring("data:".length()))));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (bookingEventStream.subscriberCount(userId) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private HttpRequest eventsRequest(long userId) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/bookings/events"))
+                .header(Constants.USER_ID_HEADER, String.valueOf(userId))
+                .header("Accept", "text/event-stream, application/json")
+                .build();
+    }
+
+    private BookingStatusEvent nextEvent() throws Exception {
+        String data = receivedData.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(data).as("booking status event").isNotNull();
+        return objectMapper.readValue(data, BookingStatusEvent.class);
+    }
+
+    private BookingRequestDto bookingRequest(int startInDays) {
+        LocalDateTime start = LocalDateTime.now().plusDays(startInDays);
+        return new BookingRequestDto(item.getId(), start, start.plusDays(1));
+    }
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.error.BookingDatesOverlapException;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CreateBookingConcurrencyIntegrationTest {
+    private static final int BOOKERS_COUNT = 16;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Item item;
+    private List<User> bookers;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(new User(null, "Owner", "owner-" + System.nanoTime() + "@example.com"));
+        item = itemRepository.save(Item.builder()
+                .name("Drill")
+                .description("Popular drill")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        bookers = new ArrayList<>();
+        for (int i = 0; i < BOOKERS_COUNT; i++) {
+            bookers.add(userRepository.save(
+                    new User(null, "Booker " + i, "booker-" + i + "-" + System.nanoTime() + "@example.com")));
+        }
+    }
+
+    @Test
+    void createBooking_whenManyBookersRequestSamePeriodSimultaneously_shouldPersistSingleBooking() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime end = start.plusDays(2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(BOOKERS_COUNT);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejectedByOverlap = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < BOOKERS_COUNT; i++) {
+            long bookerId = bookers.get(i).getId();
+            // Каждый следующий запрос сдвинут на час, чтобы пересекались разные, но накладывающиеся интервалы
+            BookingRequestDto request = new BookingRequestDto(item.getId(), start.plusHours(i), end.plusHours(i));
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                try {
+                    bookingService.createBooking(request, bookerId);
+                    created.incrementAndGet();
+                } catch (BookingDatesOverlapException e) {
+                    rejectedByOverlap.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<Booking> persisted = bookingRepository.findAll().stream()
+                .filter(booking -> booking.getItem().getId().equals(item.getId()))
+                .toList();
+
+        assertThat(created.get()).isEqualTo(1);
+        assertThat(rejectedByOverlap.get()).isEqualTo(BOOKERS_COUNT - 1);
+        assertThat(persisted).hasSize(1);
+        assertThat(persisted.get(0).getStatus()).isEqualTo(BookingStatus.WAITING);
+    }
+
+    @Test
+    void createBooking_whenPeriodsDoNotOverlap_shouldPersistEachBooking() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+
+        bookingService.createBooking(
+                new BookingRequestDto(item.getId(), start, start.plusDays(1)), bookers.get(0).getId());
+        bookingService.createBooking(
+                new BookingRequestDto(item.getId(), start.plusDays(1), start.plusDays(2)), bookers.get(1).getId());
+
+        long persisted = bookingRepository.findAll().stream()
+                .filter(booking -> booking.getItem().getId().equals(item.getId()))
+                .count();
+        assertThat(persisted).isEqualTo(2);
+    }
+}
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.booking.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class GetBookingsStatementCountIntegrationTest {
+    private static final int HISTORY_SIZE = 20;
+
+    // existsById пользователя + проверка наличия бронирований + сама выборка страницы
+    private static final long EXPECTED_STATEMENTS = 3;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User owner;
+    private User booker;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        owner = userRepository.save(new User(null, "Owner", "owner-" + System.nanoTime() + "@example.com"));
+        booker = userRepository.save(new User(null, "Booker", "booker-" + System.nanoTime() + "@example.com"));
+
+        // История из завершенных подтвержденных бронирований: ни одно не попадает в выборку WAITING
+        LocalDateTime start = LocalDateTime.now().minusYears(1);
+        for (int i = 0; i < HISTORY_SIZE; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .name("Item " + i)
+                    .description("Description " + i)
+                    .available(true)
+                    .owner(owner)
+                    .build());
+            bookingRepository.save(Booking.builder()
+                    .booker(booker)
+                    .item(item)
+                    .start(start.plusDays(i))
+                    .end(start.plusDays(i).plusHours(1))
+                    .status(BookingStatus.APPROVED)
+                    .build());
+        }
+
+        statistics.clear();
+    }
+
+    @Test
+    void getAllByRenterIdAndFindStatus_shouldNotLoadBookingHistoryToCheckAccess() {
+        Collection<BookingResponseDto> result = bookingService.getAllByRenterIdAndFindStatus(
+                booker.getId(), BookingFindStatus.WAITING, BookingPageRequest.of(null, null));
+
+        assertThat(result).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getAllByOwnerIdAndFindStatus_shouldNotLoadBookingHistoryToCheckAccess() {
+        Collection<BookingResponseDto> result = bookingService.getAllByOwnerIdAndFindStatus(
+                owner.getId(), BookingFindStatus.WAITING, BookingPageRequest.of(null, null));
+
+        assertThat(result).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getAllByOwnerIdAndFindStatus_shouldReadPageWithoutLoadingEntities() {
+        Collection<BookingResponseDto> result = bookingService.getAllByOwnerIdAndFindStatus(
+                owner.getId(), BookingFindStatus.PAST, BookingPageRequest.of(null, null));
+
+        // Бронирования, арендатор и вещь приходят одной проекцией, а не графом сущностей
+        assertThat(result).hasSize(HISTORY_SIZE);
+        assertThat(result).allSatisfy(booking -> {
+            assertThat(booking.getBooker().getId()).isEqualTo(booker.getId());
+            assertThat(booking.getItem().getName()).startsWith("Item ");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
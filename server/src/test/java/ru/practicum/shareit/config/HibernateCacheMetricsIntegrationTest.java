@@ -0,0 +1,48 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Как в prod: статистика Hibernate выключена, метрики кэша второго уровня строятся по статистике регионов
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=false")
+@ActiveProfiles({"test", "server"})
+class HibernateCacheMetricsIntegrationTest {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void hibernateCacheMetrics_shouldBeRegisteredForEveryRegion_whenHibernateStatisticsAreDisabled() {
+        for (String region : new String[]{User.class.getName(), Item.class.getName()}) {
+            assertThat(gets(region, "hit")).isNotNull();
+            assertThat(gets(region, "miss")).isNotNull();
+        }
+    }
+
+    @Test
+    void hibernateCacheMetrics_shouldCountHits_whenEntityIsReadFromSecondLevelCache() {
+        long userId = userRepository.save(new User(null, "User", "metrics-" + System.nanoTime() + "@example.com"))
+                .getId();
+        userRepository.findById(userId);
+        double hitsBefore = gets(User.class.getName(), "hit").count();
+
+        userRepository.findById(userId);
+
+        assertThat(gets(User.class.getName(), "hit").count()).isGreaterThan(hitsBefore);
+    }
+
+    private FunctionCounter gets(String region, String result) {
+        return meterRegistry.find("cache.gets").tags("cache", region, "result", result).functionCounter();
+    }
+}
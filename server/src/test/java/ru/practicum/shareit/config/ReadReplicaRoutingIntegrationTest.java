@@ -0,0 +1,112 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import ru.practicum.shareit.booking.dto.BookingFindStatus;
+import ru.practicum.shareit.booking.dto.BookingPageRequest;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Реплику заменяет второй пул к той же БД H2: данные совпадают, а маршрут виден по метрикам пулов
+@SpringBootTest
+@TestPropertySource(properties = {
+        "shareit.datasource.read-routing=true",
+        "shareit.datasource.replicas[0].url=jdbc:h2:mem:testdb",
+        "shareit.datasource.replicas[0].username=sa",
+        "shareit.datasource.replicas[0].password="
+})
+class ReadReplicaRoutingIntegrationTest {
+    private static final String REPLICA_POOL = ReadReplicaDataSourceConfig.REPLICA_POOL_PREFIX + 0;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Owner", "owner-" + System.nanoTime() + "@example.com"));
+        User booker = userRepository.save(new User(null, "Booker", "booker-" + System.nanoTime() + "@example.com"));
+        Item item = itemRepository.save(Item.builder()
+                .name("Item")
+                .description("Description")
+                .available(true)
+                .owner(owner)
+                .build());
+        bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(LocalDateTime.now().minusDays(2))
+                .end(LocalDateTime.now().minusDays(1))
+                .status(BookingStatus.APPROVED)
+                .build());
+    }
+
+    @Test
+    void dataSource_shouldBeRoutingDataSource_whenReadRoutingEnabled() {
+        assertThat(dataSource).isInstanceOf(ReadWriteRoutingDataSource.class);
+    }
+
+    @Test
+    void readOnlyTransaction_shouldUseReplicaPool() {
+        long primaryBefore = acquiredConnections(ReadReplicaDataSourceConfig.PRIMARY_POOL);
+        long replicaBefore = acquiredConnections(REPLICA_POOL);
+
+        Collection<BookingResponseDto> bookings = bookingService.getAllByOwnerIdAndFindStatus(
+                owner.getId(), BookingFindStatus.ALL, BookingPageRequest.of(null, null));
+
+        assertThat(bookings).hasSize(1);
+        assertThat(acquiredConnections(REPLICA_POOL)).isEqualTo(replicaBefore + 1);
+        assertThat(acquiredConnections(ReadReplicaDataSourceConfig.PRIMARY_POOL)).isEqualTo(primaryBefore);
+    }
+
+    @Test
+    void readWriteTransaction_shouldUsePrimaryPool() {
+        long primaryBefore = acquiredConnections(ReadReplicaDataSourceConfig.PRIMARY_POOL);
+        long replicaBefore = acquiredConnections(REPLICA_POOL);
+
+        userRepository.save(new User(null, "Writer", "writer-" + System.nanoTime() + "@example.com"));
+
+        assertThat(acquiredConnections(ReadReplicaDataSourceConfig.PRIMARY_POOL)).isEqualTo(primaryBefore + 1);
+        assertThat(acquiredConnections(REPLICA_POOL)).isEqualTo(replicaBefore);
+    }
+
+    private long acquiredConnections(String pool) {
+        Timer timer = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        assertThat(timer).as("acquire timer of pool %s", pool).isNotNull();
+        return timer.count();
+    }
+}
@@ -0,0 +1,107 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Без @AutoConfigureObservability тесты получают простой реестр без экспорта, а эндпоинт prometheus не публикуется
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles({"test", "server"})
+class ServiceMetricsIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Owner", "owner-" + System.nanoTime() + "@example.com"));
+        for (int i = 0; i < 3; i++) {
+            itemRepository.save(Item.builder()
+                    .name("Item " + i)
+                    .description("Description")
+                    .available(true)
+                    .owner(owner)
+                    .build());
+        }
+    }
+
+    @Test
+    void serviceCall_shouldRecordTimerAndResultSize() {
+        itemService.getOwnerItemsWithComments(owner.getId());
+
+        Timer timer = meterRegistry.find(ServiceMetricsConfig.INVOCATIONS)
+                .tags("class", "ItemServiceImpl", "method", "getOwnerItemsWithComments", "exception", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+
+        DistributionSummary resultSize = meterRegistry.find(ServiceMetricsConfig.RESULT_SIZE)
+                .tags("class", "ItemServiceImpl", "method", "getOwnerItemsWithComments")
+                .summary();
+        assertThat(resultSize).isNotNull();
+        assertThat(resultSize.max()).isEqualTo(3);
+    }
+
+    @Test
+    void handledException_shouldIncrementErrorCounterAndTagServiceTimer() throws Exception {
+        long missingUserId = Long.MAX_VALUE;
+
+        mockMvc.perform(get("/users/{userId}", missingUserId))
+                .andExpect(status().isNotFound());
+
+        Counter errors = meterRegistry.find("shareit.errors")
+                .tags("exception", "UserNotFoundException", "status", "404")
+                .counter();
+        assertThat(errors).isNotNull();
+        assertThat(errors.count()).isPositive();
+        assertThat(meterRegistry.find(ServiceMetricsConfig.INVOCATIONS)
+                .tags("class", "UserServiceImpl", "method", "getUserById", "exception", "UserNotFoundException")
+                .timer()).isNotNull();
+    }
+
+    @Test
+    void prometheusEndpoint_shouldExposeHistogramsForServicesAndRepositories() throws Exception {
+        itemService.getOwnerItemsWithComments(owner.getId());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("shareit_service_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("shareit_service_result_size_bucket")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")));
+    }
+}
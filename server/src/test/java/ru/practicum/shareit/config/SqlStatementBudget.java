@@ -0,0 +1,14 @@
+package ru.practicum.shareit.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Сколько операторов SQL может выполнить один вызов сервиса в тесте с SqlStatementBudgetExtension.
+// На методе теста переопределяет значение класса
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlStatementBudget {
+    int value();
+}
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+// Проверяет, что ни один вызов публичного метода бина @Service за время теста не выполнил больше SQL,
+// чем разрешает @SqlStatementBudget. Перехватчик добавляется в уже существующие прокси сервисов только
+// на время метода теста, поэтому подготовка данных в @BeforeEach не учитывается
+public class SqlStatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    public static final int DEFAULT_BUDGET = 10;
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        List<Advised> services = applicationContext.getBeansWithAnnotation(Service.class).values().stream()
+                .filter(Advised.class::isInstance)
+                .map(Advised.class::cast)
+                .toList();
+        ServiceCallRecorder recorder = new ServiceCallRecorder(budget(context));
+        services.forEach(service -> service.addAdvice(0, recorder));
+
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.put(ServiceCallRecorder.class, recorder);
+        store.put(Advised.class, services);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterTestExecution(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        ServiceCallRecorder recorder = store.remove(ServiceCallRecorder.class, ServiceCallRecorder.class);
+        List<Advised> services = store.remove(Advised.class, List.class);
+        services.forEach(service -> service.removeAdvice(recorder));
+
+        List<SqlStatementCounter.Scope> exceeded = recorder.calls.stream()
+                .filter(SqlStatementCounter.Scope::isExceeded)
+                .toList();
+        if (!exceeded.isEmpty()) {
+            throw new AssertionError(exceeded.stream()
+                    .map(call -> String.format("%s issued %d SQL statements (budget %d), statement %d at: %s",
+                            call.getName(), call.getCount(), call.getThreshold(), call.getThreshold() + 1,
+                            call.getCallPath()))
+                    .collect(Collectors.joining("\n")));
+        }
+    }
+
+    private static int budget(ExtensionContext context) {
+        return Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(
+                        context.getRequiredTestMethod(), SqlStatementBudget.class))
+                .or(() -> Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(
+                        context.getRequiredTestClass(), SqlStatementBudget.class)))
+                .map(SqlStatementBudget::value)
+                .orElse(DEFAULT_BUDGET);
+    }
+
+    private static class ServiceCallRecorder implements MethodInterceptor {
+        private final int budget;
+        private final List<SqlStatementCounter.Scope> calls = new CopyOnWriteArrayList<>();
+
+        ServiceCallRecorder(int budget) {
+            this.budget = budget;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            if (!Modifier.isPublic(invocation.getMethod().getModifiers())
+                    || invocation.getMethod().getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            String name = AopUtils.getTargetClass(invocation.getThis()).getSimpleName()
+                    + "." + invocation.getMethod().getName();
+            try (SqlStatementCounter.Scope scope = SqlStatementCounter.open(name, budget)) {
+                calls.add(scope);
+                return invocation.proceed();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.util.Constants;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Порог 0 и подсчет каждого запроса: любой запрос, дошедший до БД, должен дать предупреждение.
+// Пользователь читается из кэша второго уровня, поэтому запрос идет к списку вещей
+@SpringBootTest(properties = {
+        "shareit.sql-monitor.enabled=true",
+        "shareit.sql-monitor.threshold=0",
+        "shareit.sql-monitor.sample-rate=1.0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "server"})
+@ExtendWith(OutputCaptureExtension.class)
+class SqlStatementMonitorIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void request_shouldLogCallPath_whenStatementsExceedThreshold(CapturedOutput output) throws Exception {
+        User user = userRepository.save(new User(null, "User", "user-" + System.nanoTime() + "@example.com"));
+        double exceededBefore = exceededCount();
+
+        mockMvc.perform(get("/items").header(Constants.USER_ID_HEADER, user.getId()))
+                .andExpect(status().isOk());
+
+        assertThat(output).contains("GET /items issued")
+                .contains("(threshold 0), statement 1 at:")
+                .contains("ItemServiceImpl.getOwnerItemsWithComments")
+                .contains("ItemController.getAllOwnerItemsWithComments");
+        assertThat(exceededCount()).isEqualTo(exceededBefore + 1);
+    }
+
+    private double exceededCount() {
+        return meterRegistry.counter("shareit.sql.threshold.exceeded").count();
+    }
+}
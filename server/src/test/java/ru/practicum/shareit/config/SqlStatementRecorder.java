@@ -0,0 +1,18 @@
+package ru.practicum.shareit.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Запоминает SQL, отправленный Hibernate, чтобы тесты могли посчитать обращения к таблицам или разобрать план.
+// Подключается свойством spring.jpa.properties.hibernate.session_factory.statement_inspector=<имя класса>
+public class SqlStatementRecorder implements StatementInspector {
+    public static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+}
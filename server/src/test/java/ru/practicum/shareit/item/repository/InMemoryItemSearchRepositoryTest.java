@@ -0,0 +1,151 @@
+package ru.practicum.shareit.item.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Индекс обновляется после коммита, поэтому тесты работают без общей откатываемой транзакции
+@DataJpaTest
+@Import(InMemoryItemSearchRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InMemoryItemSearchRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemSearchRepository itemSearchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Owner", "owner-" + System.nanoTime() + "@mail.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void searchAvailable_whenNoMatches_shouldReturnEmptyList() {
+        itemRepository.save(new Item(null, "Item 1", "Description 1", true, owner, null, null, null));
+
+        // Ищем по тексту, которого нет в названии или описании
+        List<Item> items = itemSearchRepository.searchAvailable("Non-existent text", 0, 10);
+        assertTrue(items.isEmpty(), "Search should return an empty list when no matches found");
+    }
+
+    @Test
+    void searchAvailable_whenMatchesFound_shouldReturnMatchingItems() {
+        Item item1 = itemRepository.save(new Item(null, "Hammer", "Steel hammer", true, owner, null, null, null));
+        Item item2 = itemRepository.save(new Item(null, "Saw", "Sharp wood saw", true, owner, null, null, null));
+
+        // Поиск по подстроке названия без учета регистра
+        List<Item> items = itemSearchRepository.searchAvailable("hAmM", 0, 10);
+        assertEquals(List.of(item1.getId()), items.stream().map(Item::getId).toList());
+
+        // Поиск по подстроке описания
+        items = itemSearchRepository.searchAvailable("wood", 0, 10);
+        assertEquals(List.of(item2.getId()), items.stream().map(Item::getId).toList());
+    }
+
+    @Test
+    void searchAvailable_shouldMatchAllQueryWordsInAnyOrder() {
+        Item drill = itemRepository.save(new Item(null, "Drill", "Cordless drill", true, owner, null, null, null));
+        Item hammer = itemRepository.save(new Item(null, "Hammer", "Steel claw hammer", true, owner, null, null, null));
+
+        // Как plainto_tsquery: все слова запроса, порядок и поле (название или описание) не важны
+        assertEquals(List.of(drill.getId()),
+                itemSearchRepository.searchAvailable("drill CORDLESS", 0, 10).stream().map(Item::getId).toList());
+        assertEquals(List.of(hammer.getId()),
+                itemSearchRepository.searchAvailable("hammer, claw", 0, 10).stream().map(Item::getId).toList());
+        // Слова из разных вещей не складываются, части слов не совпадают
+        assertTrue(itemSearchRepository.searchAvailable("cordless hammer", 0, 10).isEmpty());
+        assertTrue(itemSearchRepository.searchAvailable("dril cordless", 0, 10).isEmpty());
+    }
+
+    @Test
+    void searchAvailable_whenItemUnavailableOrUpdated_shouldFollowItemChanges() {
+        Item drill = itemRepository.save(new Item(null, "Drill", "Cordless drill", true, owner, null, null, null));
+        itemRepository.save(new Item(null, "Old drill", "Broken drill", false, owner, null, null, null));
+
+        // Недоступная вещь не попадает в индекс
+        assertEquals(List.of(drill.getId()),
+                itemSearchRepository.searchAvailable("drill", 0, 10).stream().map(Item::getId).toList());
+
+        drill.setAvailable(false);
+        itemRepository.saveAndFlush(drill);
+        assertTrue(itemSearchRepository.searchAvailable("drill", 0, 10).isEmpty());
+
+        drill.setAvailable(true);
+        drill.setName("Screwdriver");
+        drill.setDescription("Cordless screwdriver");
+        itemRepository.saveAndFlush(drill);
+        assertTrue(itemSearchRepository.searchAvailable("drill", 0, 10).isEmpty());
+        assertEquals(List.of(drill.getId()),
+                itemSearchRepository.searchAvailable("screw", 0, 10).stream().map(Item::getId).toList());
+    }
+
+    @Test
+    void searchAvailable_shouldApplyOffsetAndLimitInIdOrder() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(itemRepository.save(
+                    new Item(null, "Ladder " + i, "Folding ladder", true, owner, null, null, null)).getId());
+        }
+
+        List<Item> page = itemSearchRepository.searchAvailable("ladder", 1, 2);
+        assertEquals(ids.subList(1, 3), page.stream().map(Item::getId).toList());
+    }
+
+    @Test
+    void searchAvailable_whenTransactionRolledBack_shouldNotIndexItem() {
+        transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.saveAndFlush(new Item(null, "Kayak", "Inflatable kayak", true, owner, null, null, null));
+            status.setRollbackOnly();
+        });
+
+        assertTrue(itemSearchRepository.searchAvailable("kayak", 0, 10).isEmpty());
+    }
+
+    @Test
+    void searchAvailable_whenIndexedItemBecameUnavailableInDatabase_shouldSkipItAndFillPage() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            ids.add(itemRepository.save(
+                    new Item(null, "Tent " + i, "Camping tent", true, owner, null, null, null)).getId());
+        }
+        // Изменение в обход Hibernate: индекс о нем не знает
+        jdbcTemplate.update("UPDATE items SET is_available = false WHERE id = ?", ids.get(1));
+
+        List<Item> page = itemSearchRepository.searchAvailable("tent", 1, 2);
+        assertEquals(List.of(ids.get(2), ids.get(3)), page.stream().map(Item::getId).toList());
+    }
+}
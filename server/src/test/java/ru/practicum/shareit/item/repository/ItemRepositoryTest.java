@@ -55,32 +55,6 @@ class ItemRepositoryTest {
         assertTrue(foundItem.isEmpty(), "Item should not be found for a different owner");
     }
 
-    @Test
-    void findBySearchText_whenNoMatches_shouldReturnEmptyCollection() {
-        // Создаем Item для поиска
-        itemRepository.save(new Item(null, "Item 1", "Description 1", true, owner, null, null, null));
-
-        // Ищем по тексту, которого нет в названии или описании
-        Collection<Item> items = itemRepository.findBySearchText("Non-existent text");
-        assertTrue(items.isEmpty(), "Search should return an empty collection when no matches found");
-    }
-
-    @Test
-    void findBySearchText_whenMatchesFound_shouldReturnMatchingItems() {
-        // Создаем несколько Item
-        Item item1 = itemRepository.save(new Item(null, "Item 1", "Description 1", true, owner, null, null, null));
-        Item item2 = itemRepository.save(new Item(null, "Item 2", "Description 2", true, owner, null, null, null));
-        itemRepository.save(new Item(null, "Item 3", "Special item", true, owner, null, null, null));
-
-        // Ищем по тексту, который есть в названии
-        Collection<Item> items = itemRepository.findBySearchText("Item 1");
-        assertEquals(1, items.size(), "Search should return the correct item based on the name");
-
-        // Ищем по тексту, который есть в описании
-        items = itemRepository.findBySearchText("Description 2");
-        assertEquals(1, items.size(), "Search should return the correct item based on the description");
-    }
-
     @Test
     void findAllByOwnerIdWithComments_whenNoItems_shouldReturnEmptyCollection() {
         // Проверяем, что если у владельца нет предметов, то вернется пустой список
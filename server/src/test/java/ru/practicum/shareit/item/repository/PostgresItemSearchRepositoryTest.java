@@ -0,0 +1,110 @@
+package ru.practicum.shareit.item.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Нативный запрос поиска (tsvector и pg_trgm из миграций PostgreSQL) на настоящем PostgreSQL в Docker.
+// В обычный прогон не входит: mvn -pl server test -Dgroups=postgres -Dsurefire.excludedGroups=none
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgresItemSearchRepository.class)
+class PostgresItemSearchRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16.1");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemSearchRepository itemSearchRepository;
+
+    private User owner;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.driverClassName", POSTGRES::getDriverClassName);
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("shareit.search.engine", () -> "postgresql");
+    }
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Owner", "owner-" + System.nanoTime() + "@mail.com"));
+    }
+
+    @Test
+    void searchAvailable_shouldMatchWordsAndSubstringsIgnoringCase() {
+        Item hammer = itemRepository.save(new Item(null, "Hammer", "Steel claw hammer", true, owner, null, null, null));
+        Item saw = itemRepository.save(new Item(null, "Saw", "Sharp woodworking saw", true, owner, null, null, null));
+
+        // Слово целиком находит полнотекстовый индекс
+        assertEquals(List.of(hammer.getId()),
+                itemSearchRepository.searchAvailable("claw", 0, 10).stream().map(Item::getId).toList());
+        // Подстрока в другом регистре - триграммный
+        assertEquals(List.of(saw.getId()),
+                itemSearchRepository.searchAvailable("WOODWORK", 0, 10).stream().map(Item::getId).toList());
+        assertTrue(itemSearchRepository.searchAvailable("Non-existent text", 0, 10).isEmpty());
+    }
+
+    @Test
+    void searchAvailable_shouldMatchAllQueryWordsInAnyOrder() {
+        Item drill = itemRepository.save(new Item(null, "Drill", "Cordless drill", true, owner, null, null, null));
+        Item hammer = itemRepository.save(new Item(null, "Hammer", "Steel claw hammer", true, owner, null, null, null));
+
+        // Как plainto_tsquery: все слова запроса, порядок и поле (название или описание) не важны
+        assertEquals(List.of(drill.getId()),
+                itemSearchRepository.searchAvailable("drill CORDLESS", 0, 10).stream().map(Item::getId).toList());
+        assertEquals(List.of(hammer.getId()),
+                itemSearchRepository.searchAvailable("hammer, claw", 0, 10).stream().map(Item::getId).toList());
+        // Слова из разных вещей не складываются, части слов не совпадают
+        assertTrue(itemSearchRepository.searchAvailable("cordless hammer", 0, 10).isEmpty());
+        assertTrue(itemSearchRepository.searchAvailable("dril cordless", 0, 10).isEmpty());
+    }
+
+    @Test
+    void searchAvailable_shouldSkipUnavailableItems() {
+        Item drill = itemRepository.save(new Item(null, "Drill", "Cordless drill", true, owner, null, null, null));
+        itemRepository.save(new Item(null, "Old drill", "Broken drill", false, owner, null, null, null));
+
+        assertEquals(List.of(drill.getId()),
+                itemSearchRepository.searchAvailable("drill", 0, 10).stream().map(Item::getId).toList());
+    }
+
+    @Test
+    void searchAvailable_shouldApplyOffsetAndLimitInIdOrder() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(itemRepository.save(
+                    new Item(null, "Ladder " + i, "Folding ladder", true, owner, null, null, null)).getId());
+        }
+
+        List<Item> page = itemSearchRepository.searchAvailable("ladder", 1, 2);
+        assertEquals(ids.subList(1, 3), page.stream().map(Item::getId).toList());
+    }
+}
@@ -1,5 +1,8 @@
 package ru.practicum.shareit.item.service;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +46,9 @@ class ItemServiceGetOwnerItemsWithCommentsIntegrationTest {
     @Autowired
     private CommentService commentService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private User owner;
     private User renter1;
     private User renter2;
@@ -78,7 +84,7 @@ class ItemServiceGetOwnerItemsWithCommentsIntegrationTest {
                 item,
                 LocalDateTime.now().minusDays(3),
                 LocalDateTime.now().minusDays(1),
-                BookingStatus.APPROVED
+                BookingStatus.APPROVED, null
         ));
 
         booking2 = bookingRepository.save(new Booking(
@@ -87,7 +93,7 @@ class ItemServiceGetOwnerItemsWithCommentsIntegrationTest {
                 item,
                 LocalDateTime.now().minusHours(5),
                 LocalDateTime.now().minusHours(12),
-                BookingStatus.APPROVED
+                BookingStatus.APPROVED, null
         ));
 
         // Создаем комментарии
@@ -170,4 +176,63 @@ class ItemServiceGetOwnerItemsWithCommentsIntegrationTest {
         assertThat(retrievedUnavailableItem).isNotNull();
         assertThat(retrievedUnavailableItem.getAvailable()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getOwnerItemsWithComments_whenItemsHaveBookings_shouldFillLastAndNextBookings() {
+        Item secondItem = itemRepository.save(
+                new Item(null, "Item 2", "Item 2 description", true, owner, null, null, null)
+        );
+        User renter3 = userRepository.save(new User(null, "Test renter 3", "renter3-" + System.nanoTime() + "@example.com"));
+        User renter4 = userRepository.save(new User(null, "Test renter 4", "renter4-" + System.nanoTime() + "@example.com"));
+        Booking nextBooking = bookingRepository.save(new Booking(
+                null,
+                renter3,
+                item,
+                LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2),
+                BookingStatus.APPROVED, null
+        ));
+        // Более позднее будущее и отклоненное бронирование не должны попасть в nextBooking
+        bookingRepository.save(new Booking(
+                null,
+                renter4,
+                item,
+                LocalDateTime.now().plusDays(3),
+                LocalDateTime.now().plusDays(4),
+                BookingStatus.APPROVED, null
+        ));
+        bookingRepository.save(new Booking(
+                null,
+                renter2,
+                secondItem,
+                LocalDateTime.now().plusHours(1),
+                LocalDateTime.now().plusHours(2),
+                BookingStatus.REJECTED, null
+        ));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var items = itemService.getOwnerItemsWithComments(owner.getId());
+
+        // existsById владельца + вещи с комментариями + последние/ближайшие бронирования всех вещей
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+        ItemDetailedResponseDto bookedItem = items.stream()
+                .filter(i -> i.getId().equals(item.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(bookedItem.getLastBooking()).isNotNull();
+        assertThat(bookedItem.getLastBooking().getId()).isEqualTo(booking2.getId());
+        assertThat(bookedItem.getNextBooking()).isNotNull();
+        assertThat(bookedItem.getNextBooking().getId()).isEqualTo(nextBooking.getId());
+        assertThat(bookedItem.getComments()).hasSize(2);
+
+        ItemDetailedResponseDto notBookedItem = items.stream()
+                .filter(i -> i.getId().equals(secondItem.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(notBookedItem.getLastBooking()).isNull();
+        assertThat(notBookedItem.getNextBooking()).isNull();
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.comment.dto.CommentResponseDto;
 import ru.practicum.shareit.comment.entity.Comment;
 import ru.practicum.shareit.error.ItemNotFoundException;
@@ -17,13 +18,18 @@ import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.ItemSearchRepository;
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+import ru.practicum.shareit.outbox.service.OutboxWriter;
+import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.user.entity.User;
-import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.RequestUserResolver;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,11 +44,23 @@ class ItemServiceTest {
     private ItemRepository itemRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private ItemSearchRepository itemSearchRepository;
+
+    @Mock
+    private RequestUserResolver userResolver;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ItemRequestService itemRequestService;
 
     @Mock
     private ItemMapper itemMapper;
 
+    @Mock
+    private OutboxWriter outboxWriter;
+
     private User owner;
     private Item item;
 
@@ -58,7 +76,7 @@ class ItemServiceTest {
         long userId = owner.getId();
 
         // Подготовка данных
-        when(userRepository.existsById(userId)).thenReturn(false);
+        doThrow(new UserNotFoundException(userId)).when(userResolver).requireExists(userId);
 
         // Проверка на исключение
         assertThrows(UserNotFoundException.class, () -> itemService.getItemWithCommentsById(itemId, userId));
@@ -88,8 +106,6 @@ class ItemServiceTest {
                 null,
                 null
         );
-
-        when(userRepository.existsById(userId)).thenReturn(true);
         when(itemRepository.findByIdWithComments(itemId)).thenReturn(Optional.of(item));
         when(itemMapper.toDetailedResponse(item)).thenReturn(expectedDto);
 
@@ -100,7 +116,7 @@ class ItemServiceTest {
         assertNotNull(result);
         assertEquals(expectedDto, result);
 
-        verify(userRepository).existsById(userId);
+        verify(userResolver).requireExists(userId);
         verify(itemRepository).findByIdWithComments(itemId);
         verify(itemMapper).toDetailedResponse(item);
     }
@@ -111,7 +127,6 @@ class ItemServiceTest {
         long userId = owner.getId();
 
         // Подготовка данных
-        when(userRepository.existsById(userId)).thenReturn(true);
         when(itemRepository.findByIdWithComments(itemId)).thenReturn(Optional.empty());
 
         // Проверка на исключение
@@ -126,19 +141,18 @@ class ItemServiceTest {
         String searchText = "item";
 
         // Подготовка данных
-        when(userRepository.existsById(userId)).thenReturn(true);
-        when(itemRepository.findBySearchText(searchText)).thenReturn(List.of(item));
+        when(itemSearchRepository.searchAvailable(searchText, 0, 10)).thenReturn(List.of(item));
         when(itemMapper.toResponse(item)).thenReturn(new ItemResponseDto(item.getId(), item.getName(), item.getDescription(), item.getAvailable()));
 
-        Collection<ItemResponseDto> response = itemService.searchUserItemsBySearchText(userId, searchText);
+        Collection<ItemResponseDto> response = itemService.searchUserItemsBySearchText(userId, searchText, 0, 10);
 
         // Проверка
         assertNotNull(response);
         assertEquals(1, response.size());
         assertEquals(item.getId(), response.iterator().next().getId());
 
-        verify(itemRepository).findBySearchText(searchText);
-        verify(userRepository).existsById(userId);
+        verify(itemSearchRepository).searchAvailable(searchText, 0, 10);
+        verify(userResolver).requireExists(userId);
     }
 
     @Test
@@ -147,12 +161,22 @@ class ItemServiceTest {
         String searchText = "item";
 
         // Подготовка данных
-        when(userRepository.existsById(userId)).thenReturn(false);
+        doThrow(new UserNotFoundException(userId)).when(userResolver).requireExists(userId);
 
         // Проверка на исключение
-        assertThrows(UserNotFoundException.class, () -> itemService.searchUserItemsBySearchText(userId, searchText));
+        assertThrows(UserNotFoundException.class, () -> itemService.searchUserItemsBySearchText(userId, searchText, 0, 10));
+
+        verify(itemSearchRepository, never()).searchAvailable(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchUserItemsBySearchText_whenTextIsBlank_shouldReturnEmptyListWithoutSearching() {
+        long userId = owner.getId();
 
-        verify(itemRepository, never()).findBySearchText(searchText);
+        Collection<ItemResponseDto> response = itemService.searchUserItemsBySearchText(userId, "  ", 0, 10);
+
+        assertTrue(response.isEmpty());
+        verify(itemSearchRepository, never()).searchAvailable(anyString(), anyInt(), anyInt());
     }
 
     @Test
@@ -167,10 +191,10 @@ class ItemServiceTest {
         ItemDetailedResponseDto itemDto1 = new ItemDetailedResponseDto(1L, "Item1", "Description1", true, List.of(), null, null);
         ItemDetailedResponseDto itemDto2 = new ItemDetailedResponseDto(2L, "Item2", "Description2", true, List.of(), null, null);
         List<ItemDetailedResponseDto> itemDtos = List.of(itemDto1, itemDto2);
-
-        when(userRepository.existsById(userId)).thenReturn(true);
         when(itemRepository.findAllByOwnerIdWithComments(userId)).thenReturn(items);
-        when(itemMapper.toDetailedResponseList(items)).thenReturn(itemDtos);
+        when(bookingRepository.findLastAndNextApprovedByItemOwnerId(eq(userId), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        when(itemMapper.toDetailedResponseList(items, Map.of(), Map.of())).thenReturn(itemDtos);
 
         // Выполнение метода
         Collection<ItemDetailedResponseDto> result = itemService.getOwnerItemsWithComments(userId);
@@ -181,9 +205,10 @@ class ItemServiceTest {
         assertTrue(result.contains(itemDto1));
         assertTrue(result.contains(itemDto2));
 
-        verify(userRepository).existsById(userId);
+        verify(userResolver).requireExists(userId);
         verify(itemRepository).findAllByOwnerIdWithComments(userId);
-        verify(itemMapper).toDetailedResponseList(items);
+        verify(bookingRepository).findLastAndNextApprovedByItemOwnerId(eq(userId), any(LocalDateTime.class));
+        verify(itemMapper).toDetailedResponseList(items, Map.of(), Map.of());
     }
 
     @Test
@@ -191,7 +216,7 @@ class ItemServiceTest {
         long userId = owner.getId();
 
         // Подготовка данных
-        when(userRepository.existsById(userId)).thenReturn(false);
+        doThrow(new UserNotFoundException(userId)).when(userResolver).requireExists(userId);
 
         // Проверка на исключение
         assertThrows(UserNotFoundException.class, () -> itemService.getOwnerItemsWithComments(userId));
@@ -215,7 +240,6 @@ class ItemServiceTest {
                 new ArrayList<>());
 
         // Подготовка данных
-        when(userRepository.existsById(ownerId)).thenReturn(true);
         when(itemRepository.findByIdAndOwnerId(itemId, ownerId)).thenReturn(Optional.of(item));
         when(itemRepository.save(any(Item.class))).thenReturn(itemUpdated);
         when(itemMapper.toResponse(any(Item.class))).thenReturn(new ItemResponseDto(
@@ -244,7 +268,7 @@ class ItemServiceTest {
         ItemPatchDto itemPatchDto = new ItemPatchDto("Updated name", "Updated description", true);
 
         // Подготовка данных
-        when(userRepository.existsById(ownerId)).thenReturn(false);
+        doThrow(new UserNotFoundException(ownerId)).when(userResolver).requireExists(ownerId);
 
         // Проверка на исключение
         assertThrows(UserNotFoundException.class, () -> itemService.updateItemByIdAndOwnerId(ownerId, itemId, itemPatchDto));
@@ -258,7 +282,7 @@ class ItemServiceTest {
         ItemPostDto itemPostDto = new ItemPostDto("New Item", "Description of new item", true, null);
 
         // Подготовка данных
-        when(userRepository.findById(userId)).thenReturn(Optional.of(owner));
+        when(userResolver.getReference(userId)).thenReturn(owner);
         when(itemMapper.toEntity(itemPostDto)).thenReturn(item);
         when(itemRepository.save(any(Item.class))).thenReturn(item);
         when(itemMapper.toResponse(item)).thenReturn(new ItemResponseDto(item.getId(), item.getName(), item.getDescription(), item.getAvailable()));
@@ -273,6 +297,8 @@ class ItemServiceTest {
         assertTrue(response.getAvailable());
 
         verify(itemRepository).save(any(Item.class));
+        verify(itemRequestService).recordMatches(item);
+        verify(outboxWriter).append(OutboxEventType.ITEM_CREATED, item.getId(), response);
     }
 
     @Test
@@ -281,11 +307,12 @@ class ItemServiceTest {
         ItemPostDto itemPostDto = new ItemPostDto("New Item", "Description of new item", true, null);
 
         // Подготовка данных
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userResolver.getReference(userId)).thenThrow(new UserNotFoundException(userId));
 
         // Проверка на исключение
         assertThrows(UserNotFoundException.class, () -> itemService.createItemByUser(userId, itemPostDto));
 
         verify(itemRepository, never()).save(any(Item.class));
+        verify(itemRequestService, never()).recordMatches(any(Item.class));
     }
 }
\ No newline at end of file
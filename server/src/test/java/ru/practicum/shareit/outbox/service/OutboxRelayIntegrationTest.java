@@ -0,0 +1,147 @@
+package ru.practicum.shareit.outbox.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.dto.ItemPostDto;
+import ru.practicum.shareit.item.dto.ItemResponseDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.outbox.dto.OutboxEventDraft;
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+import ru.practicum.shareit.outbox.repository.OutboxEventRepository;
+import ru.practicum.shareit.outbox.sink.InMemoryOutboxSink;
+import ru.practicum.shareit.user.dto.UserRequestDto;
+import ru.practicum.shareit.user.dto.UserResponseDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OutboxRelayIntegrationTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @BeforeEach
+    void drainOutbox() {
+        outboxRelay.relayPending();
+    }
+
+    @Test
+    void relayPending_shouldDeliverEventsWrittenWithMutationAndClearOutbox() {
+        UserResponseDto owner = createUser("owner");
+        ItemResponseDto item = itemService.createItemByUser(owner.getId(),
+                new ItemPostDto("Drill", "Cordless drill", true, null));
+
+        outboxRelay.relayPending();
+
+        assertThat(sink.getMessages()).anySatisfy(message -> {
+            assertThat(message.eventType()).isEqualTo(OutboxEventType.ITEM_CREATED);
+            assertThat(message.aggregateType()).isEqualTo("ITEM");
+            assertThat(message.aggregateId()).isEqualTo(item.getId());
+            assertThat(message.payload()).contains("\"name\":\"Drill\"");
+        });
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void relayPending_shouldDeliverEventsAppendedInOneStatementInOrder() {
+        transactionTemplate.executeWithoutResult(status -> outboxWriter.appendAll(List.of(
+                new OutboxEventDraft(OutboxEventType.BOOKING_APPROVED, 1, Map.of("id", 1)),
+                new OutboxEventDraft(OutboxEventType.BOOKING_REJECTED, 2, Map.of("id", 2)))));
+
+        outboxRelay.relayPending();
+
+        List<OutboxMessage> bookingMessages = sink.getMessages().stream()
+                .filter(message -> message.aggregateType().equals("BOOKING"))
+                .toList();
+        assertThat(bookingMessages).hasSizeGreaterThanOrEqualTo(2);
+        List<OutboxMessage> appended = bookingMessages.subList(bookingMessages.size() - 2, bookingMessages.size());
+        assertThat(appended).extracting(OutboxMessage::eventType)
+                .containsExactly(OutboxEventType.BOOKING_APPROVED, OutboxEventType.BOOKING_REJECTED);
+        assertThat(appended).extracting(OutboxMessage::payload)
+                .containsExactly("{\"id\":1}", "{\"id\":2}");
+        assertThat(appended).allSatisfy(message -> assertThat(message.created()).isNotNull());
+    }
+
+    @Test
+    void relayPending_whenMutationRolledBack_shouldNotDeliverItsEvent() {
+        String email = "rolled-back-" + System.nanoTime() + "@example.com";
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.createUser(new UserRequestDto("Rolled back", email));
+            status.setRollbackOnly();
+        });
+
+        outboxRelay.relayPending();
+
+        assertThat(sink.getMessages()).noneMatch(message -> message.payload().contains(email));
+    }
+
+    @Test
+    void relayPending_shouldSkipEventsLockedByAnotherRelay() throws Exception {
+        UserResponseDto locked = createUser("locked");
+        UserResponseDto free = createUser("free");
+
+        // Второй ретранслятор держит блокировку самого старого события, не завершая транзакцию
+        CountDownLatch batchLocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> otherRelay = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    outboxEventRepository.findBatchForRelay(1);
+                    batchLocked.countDown();
+                    try {
+                        release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(batchLocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture.runAsync(outboxRelay::relayPending).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(sink.getMessages()).anyMatch(message -> isUserCreated(message, free));
+        assertThat(sink.getMessages()).noneMatch(message -> isUserCreated(message, locked));
+
+        release.countDown();
+        otherRelay.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        outboxRelay.relayPending();
+
+        assertThat(sink.getMessages()).anyMatch(message -> isUserCreated(message, locked));
+    }
+
+    private UserResponseDto createUser(String name) {
+        return userService.createUser(new UserRequestDto(name, name + "-" + System.nanoTime() + "@example.com"));
+    }
+
+    private static boolean isUserCreated(OutboxMessage message, UserResponseDto user) {
+        return message.eventType() == OutboxEventType.USER_CREATED && message.aggregateId() == user.getId();
+    }
+}
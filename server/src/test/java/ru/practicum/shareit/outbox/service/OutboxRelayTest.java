@@ -0,0 +1,92 @@
+package ru.practicum.shareit.outbox.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.practicum.shareit.config.OutboxProperties;
+import ru.practicum.shareit.outbox.entity.OutboxEvent;
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+import ru.practicum.shareit.outbox.repository.OutboxEventRepository;
+import ru.practicum.shareit.outbox.sink.InMemoryOutboxSink;
+import ru.practicum.shareit.outbox.sink.OutboxSink;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(BATCH_SIZE);
+        relay = new OutboxRelay(outboxEventRepository, sink, properties, transactionManager);
+    }
+
+    @Test
+    void relayPending_shouldDrainFullBatchesUntilPartialOne() {
+        when(outboxEventRepository.findBatchForRelay(BATCH_SIZE))
+                .thenReturn(events(1, 2), events(3, 4), events(5, 5));
+
+        assertThat(relay.relayPending()).isEqualTo(5);
+
+        verify(sink, times(3)).publish(anyList());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(5L));
+    }
+
+    @Test
+    void relayPending_whenSinkFails_shouldKeepEventsInOutbox() {
+        when(outboxEventRepository.findBatchForRelay(BATCH_SIZE)).thenReturn(events(1, 2));
+        doThrow(new IllegalStateException("Topic is full")).when(sink).publish(anyList());
+
+        assertThatThrownBy(relay::relayPending).isInstanceOf(IllegalStateException.class);
+
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(transactionManager).rollback(null);
+    }
+
+    @Test
+    void start_whenDurableSinkIsRequiredAndSinkIsInMemory_shouldFail() {
+        OutboxProperties properties = new OutboxProperties();
+        properties.setRequireDurableSink(true);
+        OutboxRelay strictRelay = new OutboxRelay(outboxEventRepository, new InMemoryOutboxSink(properties),
+                properties, transactionManager);
+
+        assertThatThrownBy(strictRelay::start)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("shareit.outbox.sink=file");
+    }
+
+    private static List<OutboxEvent> events(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new OutboxEvent(id, "USER", id, OutboxEventType.USER_CREATED,
+                        "{\"id\":" + id + "}", LocalDateTime.now()))
+                .toList();
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.outbox.sink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.practicum.shareit.config.OutboxProperties;
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileOutboxSinkTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void publish_shouldAppendOneJsonLinePerMessageWithPayloadEmbeddedAsIs() throws Exception {
+        OutboxProperties properties = new OutboxProperties();
+        properties.setFilePath(directory.resolve("outbox.jsonl"));
+        FileOutboxSink sink = new FileOutboxSink(properties, new ObjectMapper().findAndRegisterModules());
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        sink.publish(List.of(new OutboxMessage(1, "ITEM", 10, OutboxEventType.ITEM_CREATED, "{\"id\":10}", created)));
+        sink.publish(List.of(new OutboxMessage(2, "ITEM", 10, OutboxEventType.ITEM_UPDATED, "{\"id\":10}", created)));
+
+        List<String> lines = Files.readAllLines(properties.getFilePath());
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"eventType\":\"ITEM_CREATED\"", "\"payload\":{\"id\":10}");
+        assertThat(lines.get(1)).contains("\"id\":2", "\"eventType\":\"ITEM_UPDATED\"");
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestPostDto;
 import ru.practicum.shareit.request.dto.ItemRequestSimpleDto;
 import ru.practicum.shareit.request.dto.ItemRequestWithResponsesDto;
@@ -66,7 +68,7 @@ class ItemRequestControllerTest {
 
     @Test
     void getUserRequestsWithResponses_shouldReturnListOfRequests() throws Exception {
-        Mockito.when(itemRequestService.getUserRequests(anyLong()))
+        Mockito.when(itemRequestService.getUserRequests(1L, ItemRequestPageRequest.of(null, null, null)))
                 .thenReturn(List.of(detailedDto));
 
         mockMvc.perform(get("/requests")
@@ -79,16 +81,42 @@ class ItemRequestControllerTest {
 
     @Test
     void getAllRequests_shouldReturnListOfAllRequests() throws Exception {
-        Mockito.when(itemRequestService.getAllRequests())
+        Mockito.when(itemRequestService.getAllRequests(1L, ItemRequestPageRequest.of(null, null, null)))
                 .thenReturn(List.of(simpleDto));
 
-        mockMvc.perform(get("/requests/all"))
+        mockMvc.perform(get("/requests/all")
+                        .header(Constants.USER_ID_HEADER, 1L))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].id").value(simpleDto.getId()))
                 .andExpect(jsonPath("$[0].description").value(simpleDto.getDescription()));
     }
 
+    @Test
+    void getAllRequests_withCursor_shouldPassPageToService() throws Exception {
+        String after = "2024-01-01T10:00:00,15";
+        Mockito.when(itemRequestService.getAllRequests(1L, ItemRequestPageRequest.of(null, after, 20)))
+                .thenReturn(List.of(simpleDto));
+
+        mockMvc.perform(get("/requests/all")
+                        .header(Constants.USER_ID_HEADER, 1L)
+                        .param("after", after)
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void getAllRequests_withOffsetAndCursor_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/requests/all")
+                        .header(Constants.USER_ID_HEADER, 1L)
+                        .param("from", "10")
+                        .param("after", "2024-01-01T10:00:00,15"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(itemRequestService);
+    }
+
     @Test
     void getSpecificItemRequest_shouldReturnRequestWithResponses() throws Exception {
         Mockito.when(itemRequestService.getByIdAndRequesterId(anyLong(), anyLong()))
@@ -100,4 +128,17 @@ class ItemRequestControllerTest {
                 .andExpect(jsonPath("$.id").value(detailedDto.getId()))
                 .andExpect(jsonPath("$.description").value(detailedDto.getDescription()));
     }
+
+    @Test
+    void getItemRequestMatches_shouldReturnMatchedItems() throws Exception {
+        ItemRequestMatchDto match = new ItemRequestMatchDto(5L, "Drill", "Cordless drill", 2L, 1.0, LocalDateTime.now());
+        Mockito.when(itemRequestService.getMatches(1L, 1L)).thenReturn(List.of(match));
+
+        mockMvc.perform(get("/requests/{itemRequestId}/matches", 1L)
+                        .header(Constants.USER_ID_HEADER, 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].itemId").value(match.getItemId()))
+                .andExpect(jsonPath("$[0].score").value(match.getScore()));
+    }
 }
@@ -7,11 +7,15 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
+import ru.practicum.shareit.request.dto.ItemRequestResponseView;
+import ru.practicum.shareit.request.dto.ItemRequestSimpleDto;
 import ru.practicum.shareit.request.entity.ItemRequest;
 import ru.practicum.shareit.user.entity.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,24 +43,44 @@ class ItemRequestRepositoryTest {
     }
 
     @Test
-    void findAllByRequesterIdOrderByCreatedDesc_whenNoRequests_shouldReturnEmptyList() {
-        List<ItemRequest> requests = requestRepository.findAllByRequesterIdOrderByCreatedDesc(requester.getId());
+    void findRequesterRequests_whenNoRequests_shouldReturnEmptyList() {
+        List<ItemRequestSimpleDto> requests = requestRepository.findRequesterRequests(
+                requester.getId(), ItemRequestPageRequest.of(null, null, null));
 
         assertTrue(requests.isEmpty(), "Should return empty list when there are no requests");
     }
 
     @Test
-    void findAllByRequesterIdOrderByCreatedDesc_whenRequestsExist_shouldReturnOrderedRequests() {
+    void findRequesterRequests_whenRequestsExist_shouldReturnOrderedRequests() {
         ItemRequest request1 = requestRepository.save(new ItemRequest(null, "Request 1", LocalDateTime.now().minusDays(1), requester, null));
         ItemRequest request2 = requestRepository.save(new ItemRequest(null, "Request 2", LocalDateTime.now(), requester, null));
+        requestRepository.save(new ItemRequest(null, "Other request", LocalDateTime.now(), responder, null));
 
-        List<ItemRequest> requests = requestRepository.findAllByRequesterIdOrderByCreatedDesc(requester.getId());
+        List<ItemRequestSimpleDto> requests = requestRepository.findRequesterRequests(
+                requester.getId(), ItemRequestPageRequest.of(null, null, null));
 
-        assertEquals(2, requests.size(), "Should return all requests");
+        assertEquals(2, requests.size(), "Should return all requests of requester");
         assertEquals(request2.getId(), requests.get(0).getId(), "Requests should be ordered by creation date DESC");
         assertEquals(request1.getId(), requests.get(1).getId(), "Requests should be ordered by creation date DESC");
     }
 
+    @Test
+    void findResponsesByRequestIds_shouldReturnOneRowPerItem() {
+        ItemRequest request1 = requestRepository.save(new ItemRequest(null, "Request 1", LocalDateTime.now(), requester, null));
+        ItemRequest request2 = requestRepository.save(new ItemRequest(null, "Request 2", LocalDateTime.now(), requester, null));
+        Item first = itemRepository.save(new Item(null, "Item 1", "Description 1", true, responder, request1, null, null));
+        Item second = itemRepository.save(new Item(null, "Item 2", "Description 2", true, responder, request1, null, null));
+        itemRepository.save(new Item(null, "Item 3", "Description 3", true, responder, null, null, null));
+
+        List<ItemRequestResponseView> responses = requestRepository.findResponsesByRequestIds(
+                List.of(request1.getId(), request2.getId()));
+
+        assertEquals(List.of(
+                new ItemRequestResponseView(request1.getId(), first.getId(), "Item 1", responder.getId()),
+                new ItemRequestResponseView(request1.getId(), second.getId(), "Item 2", responder.getId())
+        ), responses);
+    }
+
     @Test
     void findByIdWithItems_whenRequestDoesNotExist_shouldReturnEmptyOptional() {
         Optional<ItemRequest> request = requestRepository.findByIdWithItems(1L);
@@ -86,4 +110,68 @@ class ItemRequestRepositoryTest {
         assertEquals(1, requestFound.getItems().size(), "Должен быть ровно 1 item");
         assertEquals(item.getName(), requestFound.getItems().getFirst().getName(), "Поле name одного и того же предмета не должно отличаться");
     }
-}
\ No newline at end of file
+
+    @Test
+    void findOtherUsersRequests_shouldSkipOwnRequestsAndPageByOffset() {
+        LocalDateTime now = LocalDateTime.now();
+        requestRepository.save(new ItemRequest(null, "Own request", now, requester, null));
+        ItemRequest oldest = requestRepository.save(new ItemRequest(null, "Other 1", now.minusDays(2), responder, null));
+        ItemRequest middle = requestRepository.save(new ItemRequest(null, "Other 2", now.minusDays(1), responder, null));
+        ItemRequest newest = requestRepository.save(new ItemRequest(null, "Other 3", now.minusHours(1), responder, null));
+
+        List<ItemRequestSimpleDto> firstPage = requestRepository.findOtherUsersRequests(
+                requester.getId(), ItemRequestPageRequest.of(null, null, 2));
+        List<ItemRequestSimpleDto> secondPage = requestRepository.findOtherUsersRequests(
+                requester.getId(), ItemRequestPageRequest.of(2, null, 2));
+
+        assertEquals(List.of(newest.getId(), middle.getId()), firstPage.stream().map(ItemRequestSimpleDto::getId).toList());
+        assertEquals(List.of(oldest.getId()), secondPage.stream().map(ItemRequestSimpleDto::getId).toList());
+    }
+
+    @Test
+    void findOtherUsersRequests_withCursor_shouldContinueAfterLastRequestWithSameCreated() {
+        LocalDateTime created = LocalDateTime.now().withNano(0);
+        ItemRequest first = requestRepository.save(new ItemRequest(null, "Other 1", created, responder, null));
+        ItemRequest second = requestRepository.save(new ItemRequest(null, "Other 2", created, responder, null));
+        ItemRequest older = requestRepository.save(new ItemRequest(null, "Other 3", created.minusDays(1), responder, null));
+
+        List<ItemRequestSimpleDto> firstPage = requestRepository.findOtherUsersRequests(
+                requester.getId(), ItemRequestPageRequest.of(null, null, 1));
+        ItemRequestSimpleDto last = firstPage.getLast();
+        List<ItemRequestSimpleDto> nextPage = requestRepository.findOtherUsersRequests(
+                requester.getId(), ItemRequestPageRequest.of(null, last.getCreated() + "," + last.getId(), 10));
+
+        assertEquals(second.getId(), last.getId(), "При равном created первым идет запрос с большим id");
+        assertEquals(List.of(first.getId(), older.getId()), nextPage.stream().map(ItemRequestSimpleDto::getId).toList());
+    }
+
+    @Test
+    void findOtherUsersRequests_withCursor_shouldWalkWholeFeedInOffsetOrderWithoutGapsOrRepeats() {
+        LocalDateTime created = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 23; i++) {
+            // По три запроса на одно время создания: курсор должен различать их по id
+            requestRepository.save(new ItemRequest(null, "Other " + i, created.minusMinutes(i / 3), responder, null));
+            if (i % 5 == 0) {
+                requestRepository.save(new ItemRequest(null, "Own " + i, created.minusMinutes(i / 3), requester, null));
+            }
+        }
+        List<Long> expected = requestRepository.findOtherUsersRequests(
+                requester.getId(), ItemRequestPageRequest.of(0, null, 100)).stream()
+                .map(ItemRequestSimpleDto::getId)
+                .toList();
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        List<ItemRequestSimpleDto> page;
+        do {
+            page = requestRepository.findOtherUsersRequests(requester.getId(), ItemRequestPageRequest.of(null, cursor, 4));
+            page.forEach(request -> walked.add(request.getId()));
+            if (!page.isEmpty()) {
+                cursor = page.getLast().getCreated() + "," + page.getLast().getId();
+            }
+        } while (page.size() == 4);
+
+        assertEquals(23, expected.size());
+        assertEquals(expected, walked);
+    }
+}
@@ -0,0 +1,126 @@
+package ru.practicum.shareit.request.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.config.SqlStatementRecorder;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
+import ru.practicum.shareit.request.dto.ItemRequestSimpleDto;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Лента чужих запросов на миллионе строк: страница по курсору читает одинаковое число строк
+// независимо от глубины, а смещение from — пропорционально глубине. Заполнение базы занимает заметное время,
+// поэтому тест в обычный прогон не входит (тег perf); корректность курсора проверяет ItemRequestRepositoryTest
+@Tag("perf")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:request-pages;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "ru.practicum.shareit.config.SqlStatementRecorder"
+})
+class OtherUsersRequestsPagingIntegrationTest {
+    private static final int USERS = 100;
+    private static final int REQUESTS = 1_000_000;
+    private static final int PAGE_SIZE = 50;
+    private static final long USER_ID = 1;
+    private static final LocalDateTime LATEST = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class) == 0) {
+            populate();
+        }
+        SqlStatementRecorder.STATEMENTS.clear();
+    }
+
+    @Test
+    void findOtherUsersRequests_withCursor_shouldScanPageSizedRangeAtAnyDepth() {
+        List<ItemRequestSimpleDto> firstPage = itemRequestRepository.findOtherUsersRequests(
+                USER_ID, ItemRequestPageRequest.of(null, null, PAGE_SIZE));
+        long firstPageScan = analyzeLastStatement(List.of(USER_ID, (long) PAGE_SIZE));
+
+        // Курсор на последнюю строку в самом конце ленты
+        ItemRequestSimpleDto deepLast = jdbcTemplate.queryForObject("""
+                SELECT id, description, created_at FROM requests
+                WHERE requester_id <> ? AND created_at <= ?
+                ORDER BY created_at DESC, id DESC
+                LIMIT 1
+                """, (rs, i) -> new ItemRequestSimpleDto(rs.getLong(1), rs.getString(2),
+                rs.getTimestamp(3).toLocalDateTime()), USER_ID, Timestamp.valueOf(LATEST.minusSeconds(REQUESTS - 1000)));
+        SqlStatementRecorder.STATEMENTS.clear();
+        ItemRequestPageRequest deepPage = ItemRequestPageRequest.of(
+                null, deepLast.getCreated() + "," + deepLast.getId(), PAGE_SIZE);
+        List<ItemRequestSimpleDto> deepRequests = itemRequestRepository.findOtherUsersRequests(USER_ID, deepPage);
+        long deepPageScan = analyzeLastStatement(List.of(USER_ID, Timestamp.valueOf(deepPage.getAfterCreated()),
+                Timestamp.valueOf(deepPage.getAfterCreated()), deepPage.getAfterId(), (long) PAGE_SIZE));
+
+        assertThat(firstPage).hasSize(PAGE_SIZE);
+        assertThat(deepRequests).hasSize(PAGE_SIZE)
+                .allMatch(request -> request.getCreated().isBefore(deepLast.getCreated()));
+        assertThat(firstPageScan).isLessThanOrEqualTo(2L * PAGE_SIZE);
+        assertThat(deepPageScan).isLessThanOrEqualTo(2L * PAGE_SIZE);
+    }
+
+    @Test
+    void findOtherUsersRequests_withOffset_shouldScanRowsUpToOffset() {
+        int from = REQUESTS / 2;
+        List<ItemRequestSimpleDto> page = itemRequestRepository.findOtherUsersRequests(
+                USER_ID, ItemRequestPageRequest.of(from, null, PAGE_SIZE));
+        long scan = analyzeLastStatement(List.of(USER_ID, (long) from, (long) PAGE_SIZE));
+
+        assertThat(page).hasSize(PAGE_SIZE);
+        assertThat(scan).isGreaterThanOrEqualTo(from);
+    }
+
+    // EXPLAIN ANALYZE выполняет запрос и показывает, сколько строк H2 прочитал из таблицы
+    private long analyzeLastStatement(List<Object> parameters) {
+        String sql = SqlStatementRecorder.STATEMENTS.getLast();
+        String plan = jdbcTemplate.execute("EXPLAIN ANALYZE " + sql, (PreparedStatement statement) -> {
+            assertThat(statement.getParameterMetaData().getParameterCount()).isEqualTo(parameters.size());
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                return result.getString(1);
+            }
+        });
+        Matcher scanCount = SCAN_COUNT.matcher(plan);
+        assertThat(scanCount.find()).as(plan).isTrue();
+        return Long.parseLong(scanCount.group(1));
+    }
+
+    private void populate() {
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 1; i <= USERS; i++) {
+            users.add(new Object[]{"User " + i, "user-" + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (name, email) VALUES (?, ?)", users);
+        // Запрос X создан на X секунд раньше LATEST пользователем X % USERS + 1
+        jdbcTemplate.update("""
+                INSERT INTO requests (description, created_at, requester_id)
+                SELECT 'Request ' || "X", DATEADD(SECOND, -"X", CAST(? AS TIMESTAMP)), MOD("X", %d) + 1
+                FROM SYSTEM_RANGE(1, %d)
+                """.formatted(USERS, REQUESTS), Timestamp.valueOf(LATEST));
+        jdbcTemplate.execute("ANALYZE");
+    }}
@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.error.UserNotFoundException;
 import ru.practicum.shareit.item.dto.ItemPostDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestPostDto;
 import ru.practicum.shareit.request.dto.ItemRequestSimpleDto;
 import ru.practicum.shareit.request.dto.ItemRequestWithResponsesDto;
@@ -27,6 +28,8 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 @Transactional
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
 class GetAllUserRequestsWithResponsesIntegrationTest {
+    private static final ItemRequestPageRequest FIRST_PAGE = ItemRequestPageRequest.of(null, null, null);
+
     @Autowired
     private ItemRequestService itemRequestService;
 
@@ -47,7 +50,7 @@ class GetAllUserRequestsWithResponsesIntegrationTest {
         createRequest(userId, "Third request");
 
         // Act
-        Collection<ItemRequestWithResponsesDto> userRequests = itemRequestService.getUserRequests(userId);
+        Collection<ItemRequestWithResponsesDto> userRequests = itemRequestService.getUserRequests(userId, FIRST_PAGE);
 
         // Assert
         assertThat(userRequests).hasSize(3);
@@ -65,7 +68,7 @@ class GetAllUserRequestsWithResponsesIntegrationTest {
         long userId = userResponse.getId();
 
         // Act
-        Collection<ItemRequestWithResponsesDto> userRequests = itemRequestService.getUserRequests(userId);
+        Collection<ItemRequestWithResponsesDto> userRequests = itemRequestService.getUserRequests(userId, FIRST_PAGE);
 
         // Assert
         assertThat(userRequests).isEmpty();
@@ -74,7 +77,7 @@ class GetAllUserRequestsWithResponsesIntegrationTest {
     @Test
     void getUserRequests_whenUserDoesNotExist_shouldThrowException() {
         // Act & Assert
-        assertThatThrownBy(() -> itemRequestService.getUserRequests(999L))
+        assertThatThrownBy(() -> itemRequestService.getUserRequests(999L, FIRST_PAGE))
                 .isInstanceOf(UserNotFoundException.class)
                 .hasMessageContaining("User not found");
     }
@@ -95,7 +98,7 @@ class GetAllUserRequestsWithResponsesIntegrationTest {
         itemService.createItemOnRequest(ownerId, request.getId(), itemDto);
 
         // Act
-        Collection<ItemRequestWithResponsesDto> userRequests = itemRequestService.getUserRequests(requesterId);
+        Collection<ItemRequestWithResponsesDto> userRequests = itemRequestService.getUserRequests(requesterId, FIRST_PAGE);
 
         // Assert
         assertThat(userRequests).hasSize(1);
@@ -0,0 +1,107 @@
+package ru.practicum.shareit.request.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
+import ru.practicum.shareit.request.dto.ItemRequestWithResponsesDto;
+import ru.practicum.shareit.request.dto.ResponseOnItemRequestDto;
+import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class GetUserRequestsStatementCountIntegrationTest {
+    private static final int REQUESTS = 20;
+    private static final int RESPONSES_PER_REQUEST = 3;
+
+    // existsById пользователя + страница запросов + ответы на все запросы страницы
+    private static final long EXPECTED_STATEMENTS = 3;
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User requester;
+    private final List<User> owners = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        requester = userRepository.save(new User(null, "Requester", "requester-" + System.nanoTime() + "@example.com"));
+        for (int i = 0; i < RESPONSES_PER_REQUEST; i++) {
+            owners.add(userRepository.save(new User(null, "Owner " + i, "owner-" + i + "-" + System.nanoTime() + "@example.com")));
+        }
+
+        // У каждого запроса несколько ответов от разных владельцев: join fetch размножил бы строки запросов
+        LocalDateTime created = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < REQUESTS; i++) {
+            ItemRequest request = itemRequestRepository.save(
+                    new ItemRequest(null, "Request " + i, created.plusMinutes(i), requester, null));
+            for (User owner : owners) {
+                itemRepository.save(Item.builder()
+                        .name("Item " + i + " of " + owner.getName())
+                        .description("Description")
+                        .available(true)
+                        .owner(owner)
+                        .request(request)
+                        .build());
+            }
+        }
+
+        statistics.clear();
+    }
+
+    @Test
+    void getUserRequests_shouldLoadRequestsAndResponsesWithTwoQueries() {
+        Collection<ItemRequestWithResponsesDto> result = itemRequestService.getUserRequests(
+                requester.getId(), ItemRequestPageRequest.of(null, null, null));
+
+        assertThat(result).hasSize(REQUESTS);
+        assertThat(result).extracting(ItemRequestWithResponsesDto::getDescription)
+                .first().isEqualTo("Request " + (REQUESTS - 1));
+        assertThat(result).allSatisfy(request -> assertThat(request.getItems())
+                .extracting(ResponseOnItemRequestDto::getOwnerId)
+                .containsExactlyElementsOf(owners.stream().map(User::getId).toList()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getUserRequests_withPage_shouldLoadResponsesOnlyForPageRequests() {
+        Collection<ItemRequestWithResponsesDto> result = itemRequestService.getUserRequests(
+                requester.getId(), ItemRequestPageRequest.of(5, null, 5));
+
+        assertThat(result).extracting(ItemRequestWithResponsesDto::getDescription)
+                .containsExactly("Request 14", "Request 13", "Request 12", "Request 11", "Request 10");
+        assertThat(result).allSatisfy(request -> assertThat(request.getItems()).hasSize(RESPONSES_PER_REQUEST));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+    }
+}
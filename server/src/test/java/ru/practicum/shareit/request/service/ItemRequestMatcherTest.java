@@ -0,0 +1,87 @@
+package ru.practicum.shareit.request.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.config.RequestMatchingProperties;
+import ru.practicum.shareit.request.dto.RequestMatchCandidate;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ItemRequestMatcherTest {
+    private static final long REQUESTER_ID = 1L;
+    private static final long OWNER_ID = 2L;
+
+    @Mock
+    private ItemRequestRepository itemRequestRepository;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    private RequestMatchingProperties properties;
+    private ItemRequestMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RequestMatchingProperties();
+        matcher = new ItemRequestMatcher(itemRequestRepository, entityManagerFactory, properties);
+    }
+
+    @Test
+    void match_shouldScoreRequestsByShareOfTheirTermsFoundInItem() {
+        matcher.open(10L, REQUESTER_ID, "Нужна ударная дрель");
+        matcher.open(11L, REQUESTER_ID, "Дрель и перфоратор на выходные");
+
+        List<RequestMatchCandidate> candidates = matcher.match(OWNER_ID, "Дрель", "Ударная, с набором сверл");
+
+        // "нужна ударная дрель": 2 из 3 слов; у второго запроса 1 из 3 - ниже порога
+        assertThat(candidates).hasSize(1);
+        assertThat(candidates.getFirst().requestId()).isEqualTo(10L);
+        assertThat(candidates.getFirst().score()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void match_shouldOrderCandidatesByScoreAndLimitTheirCount() {
+        properties.setMaxMatchesPerItem(2);
+        matcher.open(10L, REQUESTER_ID, "дрель аккумуляторная");
+        matcher.open(11L, REQUESTER_ID, "дрель");
+        matcher.open(12L, REQUESTER_ID, "аккумуляторная дрель makita");
+
+        List<RequestMatchCandidate> candidates = matcher.match(OWNER_ID, "Дрель аккумуляторная", null);
+
+        assertThat(candidates).extracting(RequestMatchCandidate::requestId).containsExactly(10L, 11L);
+    }
+
+    @Test
+    void match_shouldSkipOwnRequestsOfItemOwner() {
+        matcher.open(10L, OWNER_ID, "дрель");
+
+        assertThat(matcher.match(OWNER_ID, "Дрель", "Ударная")).isEmpty();
+    }
+
+    @Test
+    void match_whenRequestClosed_shouldNotReturnIt() {
+        matcher.open(10L, REQUESTER_ID, "дрель");
+        matcher.open(11L, REQUESTER_ID, "дрель");
+
+        matcher.close(10L);
+
+        assertThat(matcher.match(OWNER_ID, "Дрель", "Ударная"))
+                .extracting(RequestMatchCandidate::requestId)
+                .containsExactly(11L);
+    }
+
+    @Test
+    void open_whenDescriptionHasNoTerms_shouldNotIndexRequest() {
+        matcher.open(10L, REQUESTER_ID, "a, b");
+
+        assertThat(matcher.match(OWNER_ID, "a b", "a")).isEmpty();
+    }
+}
@@ -0,0 +1,115 @@
+package ru.practicum.shareit.request.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.error.ItemRequestNotFoundException;
+import ru.practicum.shareit.item.dto.ItemPostDto;
+import ru.practicum.shareit.item.dto.ItemResponseDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
+import ru.practicum.shareit.request.dto.ItemRequestPostDto;
+import ru.practicum.shareit.user.dto.UserRequestDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Индекс открытых запросов обновляется после коммита, поэтому каждый вызов сервиса коммитит свою транзакцию
+@SpringBootTest
+class ItemRequestMatchingIntegrationTest {
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long requesterId;
+    private long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        requesterId = createUser("requester");
+        ownerId = createUser("owner");
+    }
+
+    @Test
+    void createItemByUser_shouldRecordMatchForOpenRequestOfOtherUser() {
+        long requestId = createRequest(requesterId, "Нужна ударная дрель");
+
+        ItemResponseDto item = itemService.createItemByUser(ownerId,
+                new ItemPostDto("Ударная дрель", "Мощная, с набором сверл", true, null));
+
+        Collection<ItemRequestMatchDto> matches = itemRequestService.getMatches(requestId, requesterId);
+        assertThat(matches).singleElement().satisfies(match -> {
+            assertThat(match.getItemId()).isEqualTo(item.getId());
+            assertThat(match.getOwnerId()).isEqualTo(ownerId);
+            assertThat(match.getScore()).isEqualTo(2.0 / 3);
+        });
+    }
+
+    @Test
+    void createItemByUser_shouldNotMatchOwnRequestsOfOwner() {
+        long requestId = createRequest(ownerId, "Нужна ударная дрель");
+
+        itemService.createItemByUser(ownerId, new ItemPostDto("Ударная дрель", "Мощная", true, null));
+
+        assertThat(itemRequestService.getMatches(requestId, ownerId)).isEmpty();
+    }
+
+    @Test
+    void createItemByUser_whenRequestAlreadyAnswered_shouldNotMatchIt() {
+        long requestId = createRequest(requesterId, "Нужна ударная дрель");
+        itemService.createItemOnRequest(ownerId, requestId, new ItemPostDto("Дрель", "Обычная", true, requestId));
+
+        itemService.createItemByUser(createUser("another-owner"),
+                new ItemPostDto("Ударная дрель", "Мощная", true, null));
+
+        assertThat(itemRequestService.getMatches(requestId, requesterId)).isEmpty();
+    }
+
+    @Test
+    void createItemOnRequest_whenTransactionRolledBack_shouldKeepRequestOpenForMatching() {
+        long requestId = createRequest(requesterId, "Нужна ударная дрель");
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.createItemOnRequest(ownerId, requestId, new ItemPostDto("Дрель", "Обычная", true, requestId));
+            status.setRollbackOnly();
+        });
+
+        ItemResponseDto item = itemService.createItemByUser(createUser("another-owner"),
+                new ItemPostDto("Ударная дрель", "Мощная", true, null));
+
+        assertThat(itemRequestService.getMatches(requestId, requesterId))
+                .extracting(ItemRequestMatchDto::getItemId)
+                .containsExactly(item.getId());
+    }
+
+    @Test
+    void getMatches_whenUserIsNotRequester_shouldThrowItemRequestNotFoundException() {
+        long requestId = createRequest(requesterId, "Нужна ударная дрель");
+
+        assertThatThrownBy(() -> itemRequestService.getMatches(requestId, ownerId))
+                .isInstanceOf(ItemRequestNotFoundException.class);
+    }
+
+    private long createUser(String name) {
+        UserRequestDto user = new UserRequestDto();
+        user.setName(name);
+        user.setEmail(name + "-" + System.nanoTime() + "@example.com");
+        return userService.createUser(user).getId();
+    }
+
+    private long createRequest(long userId, String description) {
+        return itemRequestService.createRequest(new ItemRequestPostDto(description), userId).getId();
+    }
+}
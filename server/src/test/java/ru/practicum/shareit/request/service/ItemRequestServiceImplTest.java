@@ -8,17 +8,26 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ru.practicum.shareit.error.ItemRequestNotFoundException;
 import ru.practicum.shareit.error.UserNotFoundException;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
+import ru.practicum.shareit.request.dto.ItemRequestPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestPostDto;
+import ru.practicum.shareit.request.dto.ItemRequestResponseView;
 import ru.practicum.shareit.request.dto.ItemRequestSimpleDto;
 import ru.practicum.shareit.request.dto.ItemRequestWithResponsesDto;
+import ru.practicum.shareit.request.dto.RequestMatchCandidate;
+import ru.practicum.shareit.request.dto.ResponseOnItemRequestDto;
 import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.request.entity.ItemRequestMatch;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.repository.ItemRequestMatchRepository;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.entity.User;
-import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.RequestUserResolver;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,7 +44,13 @@ class ItemRequestServiceImplTest {
     private ItemRequestRepository itemRequestRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private ItemRequestMatchRepository matchRepository;
+
+    @Mock
+    private ItemRequestMatcher matcher;
+
+    @Mock
+    private RequestUserResolver userResolver;
 
     @InjectMocks
     private ItemRequestServiceImpl service;
@@ -57,7 +72,7 @@ class ItemRequestServiceImplTest {
     void createRequest_shouldCreateSuccessfully() {
         ItemRequestSimpleDto itemRequestSimpleDto = new ItemRequestSimpleDto(responseDto.getId(), responseDto.getDescription(), responseDto.getCreated());
 
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(userResolver.getReference(user.getId())).thenReturn(user);
         when(mapper.toEntity(postDto)).thenReturn(request);
         when(itemRequestRepository.save(request)).thenReturn(request);
         when(mapper.toSimpleResponse(request)).thenReturn(itemRequestSimpleDto);
@@ -65,41 +80,61 @@ class ItemRequestServiceImplTest {
         ItemRequestSimpleDto result = service.createRequest(postDto, user.getId());
 
         assertThat(result).isEqualTo(itemRequestSimpleDto);
-        verify(userRepository).findById(user.getId());
+        verify(userResolver).getReference(user.getId());
         verify(itemRequestRepository).save(request);
     }
 
     @Test
     void createRequest_shouldThrowUserNotFoundException() {
-        when(userRepository.findById(user.getId())).thenReturn(Optional.empty());
+        when(userResolver.getReference(user.getId())).thenThrow(new UserNotFoundException(user.getId()));
 
         assertThrows(UserNotFoundException.class, () -> service.createRequest(postDto, user.getId()));
 
-        verify(userRepository).findById(user.getId());
+        verify(userResolver).getReference(user.getId());
         verifyNoInteractions(itemRequestRepository, mapper);
     }
 
     @Test
-    void getUserRequests_shouldReturnRequests() {
-        when(userRepository.existsById(user.getId())).thenReturn(true);
-        when(itemRequestRepository.findAllByRequesterIdOrderByCreatedDesc(user.getId()))
-                .thenReturn(Collections.singletonList(request));
-        when(mapper.toDetailedResponseList(Collections.singletonList(request)))
-                .thenReturn(Collections.singletonList(responseDto));
+    void getUserRequests_shouldAssembleRequestsWithResponsesFromTwoQueries() {
+        ItemRequestPageRequest page = ItemRequestPageRequest.of(null, null, 10);
+        ItemRequestSimpleDto withResponses = new ItemRequestSimpleDto(1L, "Request description", request.getCreated());
+        ItemRequestSimpleDto withoutResponses = new ItemRequestSimpleDto(2L, "Other request", request.getCreated());
+        ItemRequestResponseView firstView = new ItemRequestResponseView(1L, 10L, "Item 10", 5L);
+        ItemRequestResponseView secondView = new ItemRequestResponseView(1L, 11L, "Item 11", 6L);
+        ResponseOnItemRequestDto firstResponse = new ResponseOnItemRequestDto(10L, "Item 10", 5L);
+        ResponseOnItemRequestDto secondResponse = new ResponseOnItemRequestDto(11L, "Item 11", 6L);
+        ItemRequestWithResponsesDto secondDto = new ItemRequestWithResponsesDto(2L, "Other request", request.getCreated(), List.of());
+
+        when(itemRequestRepository.findRequesterRequests(user.getId(), page)).thenReturn(List.of(withResponses, withoutResponses));
+        when(itemRequestRepository.findResponsesByRequestIds(List.of(1L, 2L))).thenReturn(List.of(firstView, secondView));
+        when(mapper.toResponseOnRequest(firstView)).thenReturn(firstResponse);
+        when(mapper.toResponseOnRequest(secondView)).thenReturn(secondResponse);
+        when(mapper.toDetailedResponse(withResponses, List.of(firstResponse, secondResponse))).thenReturn(responseDto);
+        when(mapper.toDetailedResponse(withoutResponses, List.of())).thenReturn(secondDto);
+
+        var result = service.getUserRequests(user.getId(), page);
+
+        assertThat(result).containsExactly(responseDto, secondDto);
+        verify(userResolver).requireExists(user.getId());
+    }
+
+    @Test
+    void getUserRequests_whenNoRequests_shouldNotLoadResponses() {
+        ItemRequestPageRequest page = ItemRequestPageRequest.of(null, null, 10);
+        when(itemRequestRepository.findRequesterRequests(user.getId(), page)).thenReturn(List.of());
 
-        var result = service.getUserRequests(user.getId());
+        assertThat(service.getUserRequests(user.getId(), page)).isEmpty();
 
-        assertThat(result).containsExactly(responseDto);
-        verify(itemRequestRepository).findAllByRequesterIdOrderByCreatedDesc(user.getId());
+        verify(itemRequestRepository, never()).findResponsesByRequestIds(anyCollection());
     }
 
     @Test
     void getUserRequests_shouldThrowUserNotFoundException() {
-        when(userRepository.existsById(user.getId())).thenReturn(false);
+        doThrow(new UserNotFoundException(user.getId())).when(userResolver).requireExists(user.getId());
 
-        assertThrows(UserNotFoundException.class, () -> service.getUserRequests(user.getId()));
+        assertThrows(UserNotFoundException.class, () -> service.getUserRequests(user.getId(), ItemRequestPageRequest.of(null, null, null)));
 
-        verify(userRepository).existsById(user.getId());
+        verify(userResolver).requireExists(user.getId());
         verifyNoInteractions(itemRequestRepository, mapper);
     }
 
@@ -123,4 +158,61 @@ class ItemRequestServiceImplTest {
         verify(itemRequestRepository).findByIdWithItems(request.getId());
         verifyNoInteractions(mapper);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllRequests_shouldReturnPageOfOtherUsersRequests() {
+        ItemRequestPageRequest page = ItemRequestPageRequest.of(null, null, 10);
+        ItemRequestSimpleDto otherRequest = new ItemRequestSimpleDto(2L, "Other request", LocalDateTime.now());
+        when(itemRequestRepository.findOtherUsersRequests(user.getId(), page)).thenReturn(List.of(otherRequest));
+
+        assertThat(service.getAllRequests(user.getId(), page)).containsExactly(otherRequest);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void recordMatches_shouldSaveOnlyCandidatesStillOpenInDatabase() {
+        User owner = new User(2L, "Owner", "owner@example.com");
+        Item item = new Item(5L, "Drill", "Cordless drill", true, owner, null, null, null);
+        ItemRequest staleRequest = new ItemRequest(2L, "Old request", LocalDateTime.now(), user, Collections.emptyList());
+        when(matcher.match(owner.getId(), item.getName(), item.getDescription())).thenReturn(List.of(
+                new RequestMatchCandidate(request.getId(), 1.0),
+                new RequestMatchCandidate(staleRequest.getId(), 0.5)));
+        when(itemRequestRepository.findOpenIdsByIds(List.of(request.getId(), staleRequest.getId())))
+                .thenReturn(List.of(request.getId()));
+        when(itemRequestRepository.getReferenceById(request.getId())).thenReturn(request);
+
+        service.recordMatches(item);
+
+        verify(matchRepository).saveAll(argThat((List<ItemRequestMatch> matches) -> matches.size() == 1
+                && matches.getFirst().getRequest() == request
+                && matches.getFirst().getItem() == item
+                && matches.getFirst().getScore() == 1.0));
+    }
+
+    @Test
+    void recordMatches_whenItemUnavailable_shouldNotMatch() {
+        Item item = new Item(5L, "Drill", "Cordless drill", false, user, null, null, null);
+
+        service.recordMatches(item);
+
+        verifyNoInteractions(matcher, matchRepository);
+    }
+
+    @Test
+    void getMatches_whenUserIsNotRequester_shouldThrowItemRequestNotFoundException() {
+        when(itemRequestRepository.existsByIdAndRequesterId(request.getId(), 2L)).thenReturn(false);
+
+        assertThrows(ItemRequestNotFoundException.class, () -> service.getMatches(request.getId(), 2L));
+
+        verifyNoInteractions(matchRepository);
+    }
+
+    @Test
+    void getMatches_shouldReturnMatchesOfRequest() {
+        ItemRequestMatchDto match = new ItemRequestMatchDto(5L, "Drill", "Cordless drill", 2L, 1.0, LocalDateTime.now());
+        when(itemRequestRepository.existsByIdAndRequesterId(request.getId(), user.getId())).thenReturn(true);
+        when(matchRepository.findMatchesByRequestId(request.getId())).thenReturn(List.of(match));
+
+        assertThat(service.getMatches(request.getId(), user.getId())).containsExactly(match);
+    }
+}
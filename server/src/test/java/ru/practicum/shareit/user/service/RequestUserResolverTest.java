@@ -0,0 +1,80 @@
+package ru.practicum.shareit.user.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import ru.practicum.shareit.error.UserNotFoundException;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestUserResolverTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private RequestUserResolver userResolver;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void requireExists_whenCalledRepeatedlyInOneRequest_shouldQueryUserOnce() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        User reference = new User(1L, null, null);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.getReferenceById(1L)).thenReturn(reference);
+
+        userResolver.requireExists(1L);
+        userResolver.requireExists(1L);
+        assertSame(reference, userResolver.getReference(1L));
+
+        verify(userRepository, times(1)).existsById(1L);
+    }
+
+    @Test
+    void requireExists_whenUserLoadedEarlierInRequest_shouldNotQueryAgain() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(new User(1L, "User", "user@example.com")));
+
+        userResolver.getUser(1L);
+        userResolver.requireExists(1L);
+
+        verify(userRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void requireExists_whenOutsideOfRequest_shouldQueryEveryTime() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        userResolver.requireExists(1L);
+        userResolver.requireExists(1L);
+
+        verify(userRepository, times(2)).existsById(1L);
+    }
+
+    @Test
+    void requireExists_whenUserNotFound_shouldThrowUserNotFoundException() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(UserNotFoundException.class, () -> userResolver.requireExists(1L));
+        assertThrows(UserNotFoundException.class, () -> userResolver.requireExists(1L));
+
+        verify(userRepository, times(2)).existsById(1L);
+    }
+}
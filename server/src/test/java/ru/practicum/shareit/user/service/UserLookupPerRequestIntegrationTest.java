@@ -0,0 +1,98 @@
+package ru.practicum.shareit.user.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.config.SqlStatementRecorder;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.Constants;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "ru.practicum.shareit.config.SqlStatementRecorder")
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "server"})
+class UserLookupPerRequestIntegrationTest {
+    // Запрос, читающий саму таблицу users, а не присоединяющий ее к другой выборке
+    private static final Pattern USERS_TABLE_QUERY = Pattern.compile("\\bfrom\\s+users\\b", Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User owner;
+    private User author;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Owner", "owner-" + System.nanoTime() + "@example.com"));
+        author = userRepository.save(new User(null, "Author", "author-" + System.nanoTime() + "@example.com"));
+        item = itemRepository.save(new Item(null, "Drill", "Cordless drill", true, owner, null, null, null));
+        bookingRepository.save(new Booking(null, author, item,
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1), BookingStatus.APPROVED, null));
+
+        // Кэш второго уровня сбрасывается, чтобы считались реальные обращения к БД
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAll();
+        SqlStatementRecorder.STATEMENTS.clear();
+    }
+
+    @Test
+    void createComment_shouldQueryUsersTableOnce() throws Exception {
+        mockMvc.perform(post("/items/{itemId}/comment", item.getId())
+                        .header(Constants.USER_ID_HEADER, author.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\":\"Great drill\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(usersTableQueries()).hasSize(1);
+    }
+
+    @Test
+    void createItem_shouldQueryUsersTableOnce() throws Exception {
+        mockMvc.perform(post("/items")
+                        .header(Constants.USER_ID_HEADER, owner.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Saw\",\"description\":\"Sharp saw\",\"available\":true}"))
+                .andExpect(status().isOk());
+
+        assertThat(usersTableQueries()).hasSize(1);
+    }
+
+    private List<String> usersTableQueries() {
+        return SqlStatementRecorder.STATEMENTS.stream()
+                .filter(sql -> USERS_TABLE_QUERY.matcher(sql).find())
+                .toList();
+    }
+}
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.user.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.dto.UserRequestDto;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserSecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(new User(null, "Cached", "cached-" + System.nanoTime() + "@example.com"));
+        statistics.clear();
+    }
+
+    @Test
+    void getUserById_whenCalledRepeatedly_shouldReadUserFromSecondLevelCache() {
+        userService.getUserById(user.getId());
+        userService.getUserById(user.getId());
+        userService.getUserById(user.getId());
+
+        // Не больше одного обращения к БД, остальные чтения - из кэша
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(User.class.getName()).getHitCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void existsById_whenCalledRepeatedly_shouldUseQueryCache() {
+        assertThat(userRepository.existsById(user.getId())).isTrue();
+        assertThat(userRepository.existsById(user.getId())).isTrue();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void updateUser_shouldReplaceCachedUser() {
+        userService.getUserById(user.getId());
+
+        userService.updateUser(new UserRequestDto("Renamed", null), user.getId());
+
+        assertThat(userService.getUserById(user.getId()).getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    void removeUserById_shouldInvalidateCachedUserAndCascadedItems() {
+        Item item = itemRepository.save(new Item(null, "Item", "Description", true, user, null, null, null));
+        assertThat(userRepository.existsById(user.getId())).isTrue();
+        assertThat(itemRepository.findById(item.getId())).isPresent();
+
+        userService.removeUserById(user.getId());
+
+        assertThat(userRepository.existsById(user.getId())).isFalse();
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+        assertThat(itemRepository.findById(item.getId())).isEmpty();
+    }
+
+    @Test
+    void removeUserById_shouldKeepCachedItemsOfOtherUsers() {
+        User other = userRepository.save(new User(null, "Other", "other-" + System.nanoTime() + "@example.com"));
+        Item otherItem = itemRepository.save(new Item(null, "Other item", "Description", true, other, null, null, null));
+        assertThat(itemRepository.findById(otherItem.getId())).isPresent();
+
+        userService.removeUserById(user.getId());
+        statistics.clear();
+
+        assertThat(itemRepository.findById(otherItem.getId())).isPresent();
+        assertThat(statistics.getDomainDataRegionStatistics(Item.class.getName()).getHitCount()).isEqualTo(1);
+    }
+}
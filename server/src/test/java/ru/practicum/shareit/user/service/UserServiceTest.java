@@ -1,5 +1,7 @@
 package ru.practicum.shareit.user.service;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,14 +9,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ru.practicum.shareit.error.EmailAlreadyExistsException;
 import ru.practicum.shareit.error.UserNotFoundException;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.outbox.entity.OutboxEventType;
+import ru.practicum.shareit.outbox.service.OutboxWriter;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserResponseDto;
 import ru.practicum.shareit.user.entity.User;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,12 +36,24 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ItemRepository itemRepository;
+
     @Mock
     private UserMapper userMapper;
 
     @Mock
     private EmailValidator emailValidator;
 
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -62,6 +84,7 @@ class UserServiceTest {
         assertEquals(userResponseDto, result);
         verify(userRepository).existsByEmailIgnoreCase(userRequestDto.getEmail());
         verify(userRepository).save(user);
+        verify(outboxWriter).append(OutboxEventType.USER_CREATED, user.getId(), userResponseDto);
     }
 
     @Test
@@ -143,11 +166,39 @@ class UserServiceTest {
     void removeUserById_shouldDeleteUser_whenUserExists() {
         // Arrange
         long userId = 1L;
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(itemRepository.findIdsDeletedWithUser(userId)).thenReturn(List.of(10L, 11L));
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
 
         // Act
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.removeUserById(userId);
+
+            // Assert: до коммита кэш не трогается
+            verify(userRepository).delete(user);
+            verify(outboxWriter).append(OutboxEventType.USER_DELETED, userId, Map.of("id", userId));
+            verifyNoInteractions(entityManagerFactory);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert: после коммита из кэша сбрасываются только вещи, удаленные вместе с пользователем
+        verify(secondLevelCache).evict(Item.class, 10L);
+        verify(secondLevelCache).evict(Item.class, 11L);
+        verify(secondLevelCache, never()).evict(Item.class);
+    }
+
+    @Test
+    void removeUserById_shouldNotDeleteOrPublishEvent_whenUserDoesNotExist() {
+        long userId = 99L;
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
         userService.removeUserById(userId);
 
-        // Assert
-        verify(userRepository).deleteById(userId);
+        verify(userRepository, never()).delete(any(User.class));
+        verifyNoInteractions(outboxWriter, itemRepository, entityManagerFactory);
     }
 }
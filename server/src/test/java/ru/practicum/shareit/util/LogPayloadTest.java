@@ -0,0 +1,57 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogPayloadTest {
+
+    @Test
+    void of_shouldNotRenderPayload_untilToStringIsCalled() {
+        AtomicInteger renders = new AtomicInteger();
+        Object element = new Object() {
+            @Override
+            public String toString() {
+                renders.incrementAndGet();
+                return "element";
+            }
+        };
+
+        LogPayload payload = LogPayload.of(List.of(element));
+
+        assertThat(renders).hasValue(0);
+        assertThat(payload).hasToString("[element]");
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void toString_shouldRenderOnlyFirstElements_whenCollectionIsLarge() {
+        List<Integer> numbers = IntStream.range(0, 1000).boxed().toList();
+
+        String rendered = LogPayload.of(numbers).toString();
+
+        assertThat(rendered).isEqualTo("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9] (10 of 1000 shown)");
+    }
+
+    @Test
+    void toString_shouldCapLength_whenElementsAreLong() {
+        List<String> lines = List.of("a".repeat(LogPayload.MAX_LENGTH), "b");
+
+        String rendered = LogPayload.of(lines).toString();
+
+        assertThat(rendered).hasSize(LogPayload.MAX_LENGTH + "...] (1 of 2 shown)".length())
+                .endsWith("...] (1 of 2 shown)");
+    }
+
+    @Test
+    void toString_shouldTruncateSingleValue_whenItIsLong() {
+        String rendered = LogPayload.of("x".repeat(LogPayload.MAX_LENGTH + 5)).toString();
+
+        assertThat(rendered).startsWith("x".repeat(LogPayload.MAX_LENGTH))
+                .endsWith("... (" + (LogPayload.MAX_LENGTH + 5) + " chars)");
+    }
+}